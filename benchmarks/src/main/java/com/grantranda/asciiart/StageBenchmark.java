@@ -0,0 +1,189 @@
+/*
+ * StageBenchmark.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.Brightness;
+import com.grantranda.asciiart.ASCIIArt.Pipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StageBenchmark measures each stage of the conversion pipeline, and full renders to a {@link NullSink},
+ * at several sizes of synthetic image. Run it with the GC profiler to report the bytes allocated per
+ * operation and the allocation rate of each stage:
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar -prof gc
+ * </pre>
+ *
+ * @author Grant Randa
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StageBenchmark {
+
+    /**
+     * The source image is this many times larger than the rendered image along each axis.
+     */
+    public static final int SOURCE_SCALE = 4;
+
+    /**
+     * The size of the rendered image.
+     */
+    @Param({"160x90", "464x261", "1280x720"})
+    public String size;
+
+    private int width;
+    private int height;
+    private BufferedImage source;
+    private BufferedImage resized;
+    private int[] rgbArray;
+    private Color[][] rgbMatrix;
+    private int[][] brightnessMatrix;
+    private char[][] asciiMatrix;
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = size.split("x");
+        width = Integer.parseInt(dimensions[0]);
+        height = Integer.parseInt(dimensions[1]);
+        source = createImage(width * SOURCE_SCALE, height * SOURCE_SCALE);
+        resized = ASCIIArt.getResizedImage(source, width, height);
+        rgbArray = ASCIIArt.getRGBArray(resized, width, height);
+        rgbMatrix = ASCIIArt.getRGBMatrix(rgbArray, width, height);
+        brightnessMatrix = ASCIIArt.getBrightnessMatrix(rgbMatrix, Brightness.AVERAGE);
+        asciiMatrix = ASCIIArt.getASCIIMatrix(brightnessMatrix);
+    }
+
+    @Benchmark
+    public BufferedImage getResizedImage() {
+        return ASCIIArt.getResizedImage(source, width, height);
+    }
+
+    @Benchmark
+    public int[] getRGBArray() {
+        return ASCIIArt.getRGBArray(resized, width, height);
+    }
+
+    @Benchmark
+    public Color[][] getRGBMatrix() {
+        return ASCIIArt.getRGBMatrix(rgbArray, width, height);
+    }
+
+    @Benchmark
+    public int[][] getBrightnessMatrix(BrightnessMapping mapping) {
+        return ASCIIArt.getBrightnessMatrix(rgbMatrix, mapping.brightness);
+    }
+
+    @Benchmark
+    public int[][] getInvertedBrightnessMatrix() {
+        return ASCIIArt.getInvertedBrightnessMatrix(brightnessMatrix);
+    }
+
+    @Benchmark
+    public char[][] getASCIIMatrix() {
+        return ASCIIArt.getASCIIMatrix(brightnessMatrix);
+    }
+
+    @Benchmark
+    public String[][] getColoredASCIIMatrix() {
+        return ASCIIArt.getColoredASCIIMatrix(asciiMatrix, rgbMatrix);
+    }
+
+    /**
+     * Renders the source image to a null sink through a new context each time, as a single render does.
+     */
+    @Benchmark
+    public int render(Render render) throws IOException {
+        ASCIIArt.render(source, render.options, render.emitter);
+        return render.emitter.getFrameSize();
+    }
+
+    /**
+     * Renders the source image to a null sink through a context that is reused by every render.
+     */
+    @Benchmark
+    public int renderWithContext(Render render) throws IOException {
+        ASCIIArt.render(source, render.options, render.context);
+        return render.context.getEmitter().getFrameSize();
+    }
+
+    /**
+     * Returns an image of smooth gradients overlaid with noise, so that every stage sees a realistic mix
+     * of colors and brightness levels.
+     *
+     * @param width  the image width.
+     * @param height the image height.
+     * @return a new image.
+     */
+    static BufferedImage createImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(width * 31L + height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int r = Math.min(255, x * 255 / width + random.nextInt(32));
+                int g = Math.min(255, y * 255 / height + random.nextInt(32));
+                int b = Math.min(255, (x + y) * 255 / (width + height) + random.nextInt(32));
+                image.setRGB(x, y, r << 16 | g << 8 | b);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * The brightness mapping measured by {@link #getBrightnessMatrix(BrightnessMapping)}, which runs once
+     * for every mapping.
+     */
+    @State(Scope.Thread)
+    public static class BrightnessMapping {
+
+        @Param
+        public Brightness brightness;
+    }
+
+    /**
+     * The options and output of the measured renders, which run once for every pipeline.
+     */
+    @State(Scope.Thread)
+    public static class Render {
+
+        @Param
+        public Pipeline pipeline;
+
+        private RenderOptions options;
+        private FrameEmitter emitter;
+        private RenderContext context;
+
+        @Setup
+        public void setUp(StageBenchmark benchmark) {
+            options = new RenderOptions()
+                    .setWidth(benchmark.width)
+                    .setHeight(benchmark.height)
+                    .setPipeline(pipeline);
+            emitter = new FrameEmitter(new NullSink());
+            context = new RenderContext(new NullSink());
+        }
+    }
+}
@@ -5,14 +5,16 @@
 
 package com.grantranda.asciiart;
 
-import org.fusesource.jansi.Ansi;
+import com.grantranda.asciiart.RenderMetrics.Stage;
 import org.fusesource.jansi.AnsiConsole;
 
-import javax.imageio.ImageIO;
 import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.Image;
 import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
 import java.io.File;
 import java.io.IOException;
 
@@ -30,9 +32,55 @@ public class ASCIIArt {
         AVERAGE, MIN_MAX, LUMINOSITY
     }
 
+    public enum Pipeline {
+        LEGACY, PACKED, FUSED, CELL
+    }
+
+    /**
+     * The colors that colored characters are printed in. The color codes stored in a {@link Frame} are
+     * indices into {@link #BASIC_COLORS} for BASIC, indices into {@link Palette#XTERM_256} for XTERM256
+     * and 24-bit RGB values for TRUECOLOR.
+     */
+    public enum ColorMode {
+        BASIC, XTERM256, TRUECOLOR;
+
+        /**
+         * Returns the color code of an RGB value in this mode.
+         *
+         * @param rgb an integer containing RGB values.
+         * @return the color code stored in a frame.
+         */
+        public int getColor(int rgb) {
+            if (this == XTERM256) {
+                return Palette.XTERM_256.getIndex(rgb);
+            } else if (this == TRUECOLOR) {
+                return rgb & 0xFFFFFF;
+            }
+            return Palette.BASIC.getIndex(rgb);
+        }
+    }
+
+    public enum Resampling {
+        SMOOTH(new SmoothResampler()),
+        BOX(new BoxResampler()),
+        BILINEAR(new BilinearResampler()),
+        LANCZOS(new LanczosResampler());
+
+        private final Resampler resampler;
+
+        Resampling(Resampler resampler) {
+            this.resampler = resampler;
+        }
+
+        public Resampler getResampler() {
+            return resampler;
+        }
+    }
+
     public static final int CHAR_PADDING = 2;
     public static final String BRIGHTNESS_SCALE = "`^\",:;Il!i~+_-?][}{1)(|\\/tfjrxnuvczXYUJCLQ0OZmwqpdbkhao*#MW&8%B@$"; // L == 65
     public static final Color[] BASIC_COLORS = {BLACK, BLUE, CYAN, GREEN, RED, WHITE, YELLOW, MAGENTA};
+    public static final String[] BASIC_COLOR_NAMES = {"black", "blue", "cyan", "green", "red", "white", "yellow", "magenta"};
 
     static {
         AnsiConsole.systemInstall();
@@ -50,22 +98,69 @@ public class ASCIIArt {
      * values of the source color.
      */
     public static Color getBasicColor(Color color) {
-        int rgbDistance = 0;
+        return BASIC_COLORS[getBasicColorIndex(color.getRGB())];
+    }
+
+    /**
+     * Returns the index of the color in {@link #BASIC_COLORS} that is most similar to a given RGB value.
+     * The color is read from the lookup table of {@link Palette#BASIC}, which quantizes each channel to
+     * 5 bits.
+     *
+     * @param rgb an integer containing RGB values.
+     * @return an index into {@link #BASIC_COLORS} of the color with RGB values that are closest to the
+     * RGB values of the source color.
+     */
+    public static int getBasicColorIndex(int rgb) {
+        return Palette.BASIC.getIndex(rgb);
+    }
+
+    /**
+     * Searches {@link #BASIC_COLORS} for the color with the smallest Manhattan distance to a given RGB value.
+     *
+     * @param rgb an integer containing RGB values.
+     * @return an index into {@link #BASIC_COLORS}.
+     */
+    static int findBasicColorIndex(int rgb) {
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
         int minDistance = 255 * 3;
-        Color basic = BASIC_COLORS[0];
+        int basic = 0;
 
-        for (Color basicColor : BASIC_COLORS) {
-            rgbDistance = Math.abs(color.getRed() - basicColor.getRed())
-                    + Math.abs(color.getGreen() - basicColor.getGreen())
-                    + Math.abs(color.getBlue() - basicColor.getBlue());
+        for (int i = 0; i < BASIC_COLORS.length; i++) {
+            int basicRGB = BASIC_COLORS[i].getRGB();
+            int rgbDistance = Math.abs(r - ((basicRGB >> 16) & 0xFF))
+                    + Math.abs(g - ((basicRGB >> 8) & 0xFF))
+                    + Math.abs(b - (basicRGB & 0xFF));
             if (rgbDistance < minDistance) {
                 minDistance = rgbDistance;
-                basic = basicColor;
+                basic = i;
             }
         }
         return basic;
     }
 
+    /**
+     * Returns the brightness level of a single pixel.
+     *
+     * @param r                 the red component.
+     * @param g                 the green component.
+     * @param b                 the blue component.
+     * @param brightnessMapping the brightness mapping used to calculate the brightness value.
+     * @return an integer between 0 and 255 representing the brightness level.
+     */
+    public static int getBrightness(int r, int g, int b, Brightness brightnessMapping) {
+        switch (brightnessMapping) {
+            case AVERAGE:
+                return (r + g + b) / 3;
+            case LUMINOSITY:
+                return (Math.max(Math.max(r, g), b) + Math.min(Math.min(r, g), b)) / 2;
+            case MIN_MAX:
+            default:
+                return (int) (0.21 * r + 0.72 * g + 0.07 * b);
+        }
+    }
+
     /**
      * Resizes and returns an image based on the given dimensions.
      *
@@ -75,11 +170,21 @@ public class ASCIIArt {
      * @return a BufferedImage object containing the resized image.
      */
     public static BufferedImage getResizedImage(BufferedImage image, int width, int height) {
-        Image temp = image.getScaledInstance(width, height, 4);
-        BufferedImage resized = new BufferedImage(width, height, 2);
-        Graphics2D gd2 = resized.createGraphics();
-        gd2.drawImage(temp, 0, 0, null);
-        gd2.dispose();
+        return getResizedImage(image, width, height, Resampling.BOX.getResampler());
+    }
+
+    /**
+     * Resizes and returns an image based on the given dimensions.
+     *
+     * @param image     the source image to be resized.
+     * @param width     the new width.
+     * @param height    the new height.
+     * @param resampler the resampler used to resize the image.
+     * @return a BufferedImage object containing the resized image.
+     */
+    public static BufferedImage getResizedImage(BufferedImage image, int width, int height, Resampler resampler) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        resampler.resample(image, width, height, getPixels(resized));
         return resized;
     }
 
@@ -94,9 +199,123 @@ public class ASCIIArt {
     public static int[] getRGBArray(BufferedImage image, int width, int height) {
         int area = width * height;
         int[] rgbArray = new int[area];
+
+        if (image.getType() == BufferedImage.TYPE_INT_ARGB
+                && image.getWidth() == width && image.getHeight() == height
+                && image.getRaster().getDataBuffer() instanceof DataBufferInt
+                && image.getRaster().getParent() == null) {
+            int[] data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            System.arraycopy(data, 0, rgbArray, 0, area);
+            return rgbArray;
+        }
         return image.getRGB(0, 0, width, height, rgbArray, 0, width);
     }
 
+    /**
+     * Returns the RGB values of every pixel in the given image. If the image stores its pixels as
+     * packed ARGB integers, the returned array is the image's own pixel data rather than a copy.
+     *
+     * @param image the source image.
+     * @return an integer array the size of the image's area containing RGB values.
+     */
+    static int[] getPixels(BufferedImage image) {
+        if (hasPixelArray(image)) {
+            return getPixels(image, null, null);
+        }
+        return getPixels(image, new int[image.getWidth() * image.getHeight()], new int[image.getWidth()]);
+    }
+
+    /**
+     * Returns the RGB values of every pixel in the given image, copying them into the given array if the
+     * image does not store its pixels as packed ARGB integers.
+     *
+     * @param image       the source image.
+     * @param destination an array of the image's area that the pixels are copied to if needed.
+     * @param row         an array of at least the image's width that each row is read into if needed.
+     * @return the image's own pixel data, or the destination array.
+     */
+    static int[] getPixels(BufferedImage image, int[] destination, int[] row) {
+        if (hasPixelArray(image)) {
+            return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        for (int y = 0; y < height; y++) {
+            getRow(image, y, row);
+            System.arraycopy(row, 0, destination, y * width, width);
+        }
+        return destination;
+    }
+
+    /**
+     * Returns whether an image stores its pixels as an array of packed ARGB integers that
+     * {@link #getPixels(BufferedImage)} can return without copying.
+     *
+     * @param image the image.
+     * @return true if the image's own pixel data holds one packed ARGB integer per pixel.
+     */
+    static boolean hasPixelArray(BufferedImage image) {
+        return image.getType() == BufferedImage.TYPE_INT_ARGB
+                && image.getRaster().getDataBuffer() instanceof DataBufferInt
+                && image.getRaster().getParent() == null;
+    }
+
+    /**
+     * Reads the packed ARGB values of a single row of the given image. Common raster layouts are read
+     * directly from the image's data buffer, avoiding the per-pixel color model conversion of
+     * {@link BufferedImage#getRGB(int, int, int, int, int[], int, int)}.
+     *
+     * @param image the source image.
+     * @param y     the row to read.
+     * @param row   an array of at least the image's width that the row is written to.
+     */
+    static void getRow(BufferedImage image, int y, int[] row) {
+        int width = image.getWidth();
+        WritableRaster raster = image.getRaster();
+
+        if (raster.getParent() == null && raster.getMinX() == 0 && raster.getMinY() == 0) {
+            switch (image.getType()) {
+                case BufferedImage.TYPE_INT_ARGB:
+                case BufferedImage.TYPE_INT_RGB: {
+                    DataBufferInt dataBuffer = (DataBufferInt) raster.getDataBuffer();
+                    SinglePixelPackedSampleModel sampleModel = (SinglePixelPackedSampleModel) raster.getSampleModel();
+                    int offset = dataBuffer.getOffset() + sampleModel.getOffset(0, y);
+                    System.arraycopy(dataBuffer.getData(), offset, row, 0, width);
+                    if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+                        for (int x = 0; x < width; x++) {
+                            row[x] |= 0xFF000000;
+                        }
+                    }
+                    return;
+                }
+                case BufferedImage.TYPE_3BYTE_BGR:
+                case BufferedImage.TYPE_4BYTE_ABGR: {
+                    byte[] data = ((DataBufferByte) raster.getDataBuffer()).getData();
+                    ComponentSampleModel sampleModel = (ComponentSampleModel) raster.getSampleModel();
+                    int offset = raster.getDataBuffer().getOffset();
+                    int pixelStride = sampleModel.getPixelStride();
+                    int r = offset + sampleModel.getOffset(0, y, 0);
+                    int g = offset + sampleModel.getOffset(0, y, 1);
+                    int b = offset + sampleModel.getOffset(0, y, 2);
+                    boolean hasAlpha = image.getType() == BufferedImage.TYPE_4BYTE_ABGR;
+                    int a = hasAlpha ? offset + sampleModel.getOffset(0, y, 3) : 0;
+
+                    for (int x = 0; x < width; x++) {
+                        int alpha = hasAlpha ? data[a] & 0xFF : 0xFF;
+                        row[x] = alpha << 24 | (data[r] & 0xFF) << 16 | (data[g] & 0xFF) << 8 | (data[b] & 0xFF);
+                        r += pixelStride;
+                        g += pixelStride;
+                        b += pixelStride;
+                        a += pixelStride;
+                    }
+                    return;
+                }
+                default:
+            }
+        }
+        image.getRGB(0, y, width, 1, row, 0, width);
+    }
+
     /**
      * Returns a matrix containing the RGB values from the given array encapsulated in Color objects.
      *
@@ -130,27 +349,9 @@ public class ASCIIArt {
 
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                int r = rgbMatrix[y][x].getRed();
-                int g = rgbMatrix[y][x].getGreen();
-                int b = rgbMatrix[y][x].getBlue();
-
-                double rWeight = 0.21;
-                double gWeight = 0.72;
-                double bWeight = 0.07;
-
-                switch (brightnessMapping) {
-                    case AVERAGE:
-                        int average = (r + g + b) / 3;
-                        brightnessMatrix[y][x] = average;
-                        break;
-                    case LUMINOSITY:
-                        int minMaxAverage = (Math.max(Math.max(r, g), b) + Math.min(Math.min(r, g), b)) / 2;
-                        brightnessMatrix[y][x] = minMaxAverage;
-                        break;
-                    case MIN_MAX:
-                        int weightedAverage = (int) (rWeight * r + gWeight * g + bWeight * b);
-                        brightnessMatrix[y][x] = weightedAverage;
-                }
+                Color color = rgbMatrix[y][x];
+                brightnessMatrix[y][x] = getBrightness(color.getRed(), color.getGreen(), color.getBlue(),
+                        brightnessMapping);
             }
         }
         return brightnessMatrix;
@@ -186,16 +387,10 @@ public class ASCIIArt {
         int width = brightnessMatrix[0].length;
         int height = brightnessMatrix.length;
         char[][] asciiMatrix = new char[height][width];
-        char[] brightnessScale = BRIGHTNESS_SCALE.toCharArray();
 
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                double brightnessPercent = brightnessMatrix[y][x] / 255.0;
-                int scaleIndex = (int) (brightnessScale.length * brightnessPercent);
-                if (scaleIndex >= brightnessScale.length) {
-                    scaleIndex = brightnessScale.length - 1;
-                }
-                asciiMatrix[y][x] = brightnessScale[scaleIndex];
+                asciiMatrix[y][x] = GlyphRamp.DEFAULT.getGlyph(brightnessMatrix[y][x]);
             }
         }
         return asciiMatrix;
@@ -215,26 +410,7 @@ public class ASCIIArt {
 
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                String colorCode = "";
-                Color basicColor = getBasicColor(rgbMatrix[y][x]);
-
-                if (BLACK.equals(basicColor)) {
-                    colorCode = colorCode + "@|black ";
-                } else if (BLUE.equals(basicColor)) {
-                    colorCode = colorCode + "@|blue ";
-                } else if (CYAN.equals(basicColor)) {
-                    colorCode = colorCode + "@|cyan ";
-                } else if (GREEN.equals(basicColor)) {
-                    colorCode = colorCode + "@|green ";
-                } else if (RED.equals(basicColor)) {
-                    colorCode = colorCode + "@|red ";
-                } else if (WHITE.equals(basicColor)) {
-                    colorCode = colorCode + "@|white ";
-                } else if (YELLOW.equals(basicColor)) {
-                    colorCode = colorCode + "@|yellow ";
-                } else {
-                    colorCode = colorCode + "@|magenta ";
-                }
+                String colorCode = "@|" + BASIC_COLOR_NAMES[getBasicColorIndex(rgbMatrix[y][x].getRGB())] + " ";
                 colorCode = colorCode + asciiMatrix[y][x] + "|@";
                 coloredAsciiMatrix[y][x] = colorCode;
             }
@@ -242,6 +418,123 @@ public class ASCIIArt {
         return coloredAsciiMatrix;
     }
 
+    /**
+     * Returns an array containing the brightness levels of each RGB value in the given array.
+     *
+     * @param rgbArray          an array containing RGB values in the form of integers.
+     * @param brightnessMapping the brightness mapping used to calculate brightness values.
+     * @return an array of integers representing brightness levels.
+     */
+    public static int[] getBrightnessArray(int[] rgbArray, Brightness brightnessMapping) {
+        return getBrightnessArray(rgbArray, brightnessMapping, new int[rgbArray.length]);
+    }
+
+    /**
+     * Writes the brightness levels of each RGB value in the given array into another array.
+     *
+     * @param rgbArray          an array containing RGB values in the form of integers.
+     * @param brightnessMapping the brightness mapping used to calculate brightness values.
+     * @param brightnessArray   an array at least as long as rgbArray that brightness levels are written to.
+     * @return the brightness array.
+     */
+    public static int[] getBrightnessArray(int[] rgbArray, Brightness brightnessMapping, int[] brightnessArray) {
+        for (int i = 0; i < rgbArray.length; i++) {
+            int rgb = rgbArray[i];
+            brightnessArray[i] = getBrightness((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF, brightnessMapping);
+        }
+        return brightnessArray;
+    }
+
+    /**
+     * Returns an array containing the inverse brightness levels of a given array.
+     *
+     * @param brightnessArray an array containing brightness levels.
+     * @return an array of integers representing brightness levels.
+     */
+    public static int[] getInvertedBrightnessArray(int[] brightnessArray) {
+        int[] invertedBrightnessArray = new int[brightnessArray.length];
+
+        for (int i = 0; i < brightnessArray.length; i++) {
+            invertedBrightnessArray[i] = 255 - brightnessArray[i];
+        }
+        return invertedBrightnessArray;
+    }
+
+    /**
+     * Returns an array of ASCII characters representing brightness levels.
+     *
+     * @param brightnessArray an integer array containing brightness levels.
+     * @return an array of ASCII characters chosen from {@link #BRIGHTNESS_SCALE}.
+     */
+    public static char[] getASCIIArray(int[] brightnessArray) {
+        return getASCIIArray(brightnessArray, GlyphRamp.DEFAULT);
+    }
+
+    /**
+     * Returns an array of ASCII characters representing brightness levels.
+     *
+     * @param brightnessArray an integer array containing brightness levels.
+     * @param glyphRamp       the ramp used to map brightness levels to ASCII characters. An inverted ramp
+     *                        inverts the brightness levels as they are mapped.
+     * @return an array of ASCII characters chosen from the given ramp.
+     */
+    public static char[] getASCIIArray(int[] brightnessArray, GlyphRamp glyphRamp) {
+        return getASCIIArray(brightnessArray, glyphRamp, new char[brightnessArray.length]);
+    }
+
+    /**
+     * Writes the ASCII characters representing brightness levels into an array.
+     *
+     * @param brightnessArray an integer array containing brightness levels.
+     * @param glyphRamp       the ramp used to map brightness levels to ASCII characters. An inverted ramp
+     *                        inverts the brightness levels as they are mapped.
+     * @param asciiArray      an array at least as long as brightnessArray that characters are written to.
+     * @return the ASCII array.
+     */
+    public static char[] getASCIIArray(int[] brightnessArray, GlyphRamp glyphRamp, char[] asciiArray) {
+        for (int i = 0; i < brightnessArray.length; i++) {
+            asciiArray[i] = glyphRamp.getGlyph(brightnessArray[i]);
+        }
+        return asciiArray;
+    }
+
+    /**
+     * Returns an array of indices into {@link #BASIC_COLORS} for each RGB value in the given array.
+     *
+     * @param rgbArray an array containing RGB values in the form of integers.
+     * @return an array of color indices.
+     */
+    public static int[] getColorIndexArray(int[] rgbArray) {
+        return getColorIndexArray(rgbArray, ColorMode.BASIC);
+    }
+
+    /**
+     * Returns an array of color codes in the given color mode for each RGB value in the given array.
+     *
+     * @param rgbArray  an array containing RGB values in the form of integers.
+     * @param colorMode the color mode of the returned codes.
+     * @return an array of color codes.
+     */
+    public static int[] getColorIndexArray(int[] rgbArray, ColorMode colorMode) {
+        return getColorIndexArray(rgbArray, colorMode, new int[rgbArray.length]);
+    }
+
+    /**
+     * Writes the color codes in the given color mode for each RGB value in the given array into another
+     * array.
+     *
+     * @param rgbArray        an array containing RGB values in the form of integers.
+     * @param colorMode       the color mode of the color codes.
+     * @param colorIndexArray an array at least as long as rgbArray that color codes are written to.
+     * @return the color code array.
+     */
+    public static int[] getColorIndexArray(int[] rgbArray, ColorMode colorMode, int[] colorIndexArray) {
+        for (int i = 0; i < rgbArray.length; i++) {
+            colorIndexArray[i] = colorMode.getColor(rgbArray[i]);
+        }
+        return colorIndexArray;
+    }
+
     /**
      * Prints an image at the given path to the console, with each pixel represented as an ASCII character.
      *
@@ -255,31 +548,358 @@ public class ASCIIArt {
     public static void render(String pathname, int width, int height, Brightness brightnessMapping,
                               boolean brightnessInverted, boolean colored) throws IOException {
 
-        BufferedImage image = ImageIO.read(new File(pathname));
-        image = getResizedImage(image, width, height);
+        render(pathname, width, height, brightnessMapping,
+                brightnessInverted ? GlyphRamp.DEFAULT_INVERTED : GlyphRamp.DEFAULT, colored);
+    }
 
-        int[] rgbArray = getRGBArray(image, width, height);
-        Color[][] rgbMatrix = getRGBMatrix(rgbArray, width, height);
-        int[][] brightnessMatrix = getBrightnessMatrix(rgbMatrix, brightnessMapping);
+    /**
+     * Prints an image at the given path to the console, with each pixel represented as an ASCII character.
+     *
+     * @param pathname          the pathname of an image.
+     * @param width             the image width.
+     * @param height            the image height.
+     * @param brightnessMapping the brightness mapping used to map brightness levels to ASCII characters.
+     * @param glyphRamp         the ramp used to map brightness levels to ASCII characters.
+     * @param colored           if true, the printed ASCII characters will be colored.
+     */
+    public static void render(String pathname, int width, int height, Brightness brightnessMapping,
+                              GlyphRamp glyphRamp, boolean colored) throws IOException {
+
+        render(pathname, new RenderOptions()
+                .setWidth(width)
+                .setHeight(height)
+                .setBrightnessMapping(brightnessMapping)
+                .setGlyphRamp(glyphRamp)
+                .setColored(colored));
+    }
 
-        if (brightnessInverted) {
-            brightnessMatrix = getInvertedBrightnessMatrix(brightnessMatrix);
+    /**
+     * Prints an image at the given path to the console, with each pixel represented as an ASCII character.
+     *
+     * @param pathname the pathname of an image.
+     * @param options  the options used to render the image.
+     */
+    public static void render(String pathname, RenderOptions options) throws IOException {
+        render(pathname, options, new ConsoleSink());
+    }
+
+    /**
+     * Writes an image at the given path to a sink, with each pixel represented as an ASCII character.
+     * The sink is flushed but not closed.
+     *
+     * @param pathname the pathname of an image.
+     * @param options  the options used to render the image.
+     * @param sink     the sink that the finished frame is written to.
+     * @throws IOException if the image cannot be read or the frame cannot be written.
+     */
+    public static void render(String pathname, RenderOptions options, OutputSink sink) throws IOException {
+        render(pathname, options, sink, RenderMetrics.DISABLED);
+    }
+
+    /**
+     * Writes an image at the given path to a sink, with each pixel represented as an ASCII character, and
+     * records each stage of the render, including decoding the image, in the given metrics. The sink is
+     * flushed but not closed.
+     *
+     * @param pathname the pathname of an image.
+     * @param options  the options used to render the image.
+     * @param sink     the sink that the finished frame is written to.
+     * @param metrics  the metrics that the stages of the render are added to.
+     * @throws IOException if the image cannot be read or the frame cannot be written.
+     */
+    public static void render(String pathname, RenderOptions options, OutputSink sink, RenderMetrics metrics)
+            throws IOException {
+        metrics.begin();
+        BufferedImage image = ImageDecoder.decode(new File(pathname), options.getWidth(), options.getHeight());
+        metrics.end(Stage.DECODE, (long) image.getWidth() * image.getHeight());
+        render(image, options, new FrameEmitter(sink), metrics);
+        metrics.begin();
+        sink.flush();
+        metrics.extend(Stage.OUTPUT);
+    }
+
+    /**
+     * Writes an image to the given emitter, with each pixel represented as an ASCII character.
+     *
+     * @param image             the source image.
+     * @param width             the image width.
+     * @param height            the image height.
+     * @param brightnessMapping the brightness mapping used to map brightness levels to ASCII characters.
+     * @param glyphRamp         the ramp used to map brightness levels to ASCII characters.
+     * @param colored           if true, the printed ASCII characters will be colored.
+     * @param emitter           the emitter that the finished frame is written to.
+     * @throws IOException if the frame cannot be written.
+     */
+    public static void render(BufferedImage image, int width, int height, Brightness brightnessMapping,
+                              GlyphRamp glyphRamp, boolean colored, FrameEmitter emitter) throws IOException {
+
+        render(image, new RenderOptions()
+                .setWidth(width)
+                .setHeight(height)
+                .setBrightnessMapping(brightnessMapping)
+                .setGlyphRamp(glyphRamp)
+                .setColored(colored), emitter);
+    }
+
+    /**
+     * Writes an image to the given emitter, with each pixel represented as an ASCII character.
+     *
+     * @param image   the source image.
+     * @param options the options used to render the image.
+     * @param emitter the emitter that the finished frame is written to.
+     * @throws IOException if the frame cannot be written.
+     */
+    public static void render(BufferedImage image, RenderOptions options, FrameEmitter emitter)
+            throws IOException {
+        render(image, options, emitter, RenderMetrics.DISABLED);
+    }
+
+    /**
+     * Writes an image to the given emitter, with each pixel represented as an ASCII character, and records
+     * each stage of the render in the given metrics.
+     *
+     * @param image   the source image.
+     * @param options the options used to render the image.
+     * @param emitter the emitter that the finished frame is written to.
+     * @param metrics the metrics that the stages of the render are added to.
+     * @throws IOException if the frame cannot be written.
+     */
+    public static void render(BufferedImage image, RenderOptions options, FrameEmitter emitter,
+                              RenderMetrics metrics) throws IOException {
+        render(image, options, new RenderContext(emitter), metrics);
+    }
+
+    /**
+     * Writes an image through the emitter of the given context, with each pixel represented as an ASCII
+     * character. The buffers of the context are reused, so rendering repeatedly with one context
+     * allocates far less than rendering with a new emitter each time.
+     *
+     * @param image   the source image.
+     * @param options the options used to render the image.
+     * @param context the context whose buffers and emitter are used.
+     * @throws IOException if the frame cannot be written.
+     */
+    public static void render(BufferedImage image, RenderOptions options, RenderContext context)
+            throws IOException {
+        render(image, options, context, RenderMetrics.DISABLED);
+    }
+
+    /**
+     * Writes an image through the emitter of the given context, with each pixel represented as an ASCII
+     * character, and records each stage of the render in the given metrics.
+     *
+     * @param image   the source image.
+     * @param options the options used to render the image.
+     * @param context the context whose buffers and emitter are used.
+     * @param metrics the metrics that the stages of the render are added to.
+     * @throws IOException if the frame cannot be written.
+     */
+    public static void render(BufferedImage image, RenderOptions options, RenderContext context,
+                              RenderMetrics metrics) throws IOException {
+        long cells = (long) options.getWidth() * options.getHeight();
+
+        switch (options.getPipeline()) {
+            case LEGACY:
+                renderLegacy(resample(image, options, context, metrics), options, context.getEmitter(), metrics);
+                break;
+            case PACKED:
+                renderPacked(resample(image, options, context, metrics), options, context, metrics);
+                break;
+            case FUSED:
+            case CELL:
+            default:
+                Frame frame = convert(image, options, context, metrics);
+                metrics.begin();
+                context.getEmitter().emit(frame);
+                metrics.end(Stage.OUTPUT, cells);
         }
+    }
+
+    /**
+     * Writes an image through the emitter of the given context, resampling it from the smallest level of
+     * its pyramid that covers the render.
+     *
+     * @param pyramid the pyramid of the source image.
+     * @param options the options used to render the image.
+     * @param context the context whose buffers and emitter are used.
+     * @throws IOException if the frame cannot be written.
+     */
+    public static void render(MipPyramid pyramid, RenderOptions options, RenderContext context)
+            throws IOException {
+        render(pyramid, options, context, RenderMetrics.DISABLED);
+    }
+
+    /**
+     * Writes an image through the emitter of the given context, resampling it from the smallest level of
+     * its pyramid that covers the render, and records each stage of the render in the given metrics.
+     *
+     * @param pyramid the pyramid of the source image.
+     * @param options the options used to render the image.
+     * @param context the context whose buffers and emitter are used.
+     * @param metrics the metrics that the stages of the render are added to.
+     * @throws IOException if the frame cannot be written.
+     */
+    public static void render(MipPyramid pyramid, RenderOptions options, RenderContext context,
+                              RenderMetrics metrics) throws IOException {
+        render(pyramid.getLevel(options.getWidth(), options.getHeight()), options, context, metrics);
+    }
 
-        char[][] asciiMatrix = getASCIIMatrix(brightnessMatrix);
+    /**
+     * Converts an image into the given frame without writing it. The cell pipeline samples the image
+     * directly, and every other pipeline converts it like the fused pipeline.
+     *
+     * @param image   the source image.
+     * @param options the options used to convert the image.
+     * @param frame   the frame that characters and color codes are written to, with the width and height
+     *                of the options.
+     */
+    public static void convert(BufferedImage image, RenderOptions options, Frame frame) {
+        convert(image, options, frame, RenderMetrics.DISABLED);
+    }
 
-        String[][] coloredAsciiMatrix = null;
-        if (colored) {
-            coloredAsciiMatrix = getColoredASCIIMatrix(asciiMatrix, rgbMatrix);
+    /**
+     * Converts an image into the given frame without writing it, and records each stage of the
+     * conversion in the given metrics.
+     *
+     * @param image   the source image.
+     * @param options the options used to convert the image.
+     * @param frame   the frame that characters and color codes are written to, with the width and height
+     *                of the options.
+     * @param metrics the metrics that the stages of the conversion are added to.
+     */
+    public static void convert(BufferedImage image, RenderOptions options, Frame frame, RenderMetrics metrics) {
+        if (frame.getWidth() != options.getWidth() || frame.getHeight() != options.getHeight()) {
+            throw new IllegalArgumentException("Frame dimensions do not match the render options");
         }
+        convert(image, options, frame, null, metrics);
+    }
 
+    /**
+     * Converts an image into the frame of the given context without writing it, reusing the buffers of
+     * the context. The cell pipeline samples the image directly, and every other pipeline converts it
+     * like the fused pipeline.
+     *
+     * @param image   the source image.
+     * @param options the options used to convert the image.
+     * @param context the context whose buffers are used.
+     * @return the frame of the context, which is overwritten by the next conversion with the context.
+     */
+    public static Frame convert(BufferedImage image, RenderOptions options, RenderContext context) {
+        return convert(image, options, context, RenderMetrics.DISABLED);
+    }
+
+    /**
+     * Converts an image into the frame of the given context without writing it, reusing the buffers of
+     * the context, and records each stage of the conversion in the given metrics.
+     *
+     * @param image   the source image.
+     * @param options the options used to convert the image.
+     * @param context the context whose buffers are used.
+     * @param metrics the metrics that the stages of the conversion are added to.
+     * @return the frame of the context, which is overwritten by the next conversion with the context.
+     */
+    public static Frame convert(BufferedImage image, RenderOptions options, RenderContext context,
+                                RenderMetrics metrics) {
+        Frame frame = context.getFrame(options.getWidth(), options.getHeight());
+        convert(image, options, frame, context, metrics);
+        return frame;
+    }
+
+    private static void convert(BufferedImage image, RenderOptions options, Frame frame, RenderContext context,
+                                RenderMetrics metrics) {
+        if (options.getPipeline() == Pipeline.CELL) {
+            metrics.begin();
+            CellSampler.sample(image, frame, options.getBrightnessMapping(), options.getGlyphRamp(),
+                    options.getFrameColorMode(), context);
+            metrics.end(Stage.CONVERT, (long) image.getWidth() * image.getHeight());
+            return;
+        }
+        int[] rgbArray = resample(image, options, context, metrics);
+        metrics.begin();
+        ParallelConverter.convert(rgbArray, frame, options.getBrightnessMapping(), options.getGlyphRamp(),
+                options.getFrameColorMode(), options.getThreads());
+        metrics.end(Stage.CONVERT, (long) options.getWidth() * options.getHeight());
+    }
+
+    /**
+     * Resamples an image to the size of the options, into the pixel array of the context if there is one.
+     */
+    private static int[] resample(BufferedImage image, RenderOptions options, RenderContext context,
+                                  RenderMetrics metrics) {
+        int width = options.getWidth();
+        int height = options.getHeight();
+        metrics.begin();
+        int[] rgbArray = options.getResampler().resample(image, width, height,
+                context != null ? context.getPixels(width, height) : new int[width * height], context);
+        metrics.end(Stage.RESIZE, (long) image.getWidth() * image.getHeight());
+        return rgbArray;
+    }
+
+    private static void renderLegacy(int[] rgbArray, RenderOptions options, FrameEmitter emitter,
+                                     RenderMetrics metrics) throws IOException {
+        int width = options.getWidth();
+        int height = options.getHeight();
+        long cells = (long) width * height;
+        GlyphRamp glyphRamp = options.getGlyphRamp();
+
+        metrics.begin();
+        Color[][] rgbMatrix = getRGBMatrix(rgbArray, width, height);
+        int[][] brightnessMatrix = getBrightnessMatrix(rgbMatrix, options.getBrightnessMapping());
+        metrics.end(Stage.BRIGHTNESS, cells);
+
+        metrics.begin();
+        if (glyphRamp.isInverted()) {
+            brightnessMatrix = getInvertedBrightnessMatrix(brightnessMatrix);
+            glyphRamp = glyphRamp.inverted();
+        }
+
+        char[][] asciiMatrix = new char[height][width];
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                for (int i = 0; i < CHAR_PADDING; i++) {
-                    System.out.print(Ansi.ansi().render((colored ? coloredAsciiMatrix[y][x] : asciiMatrix[y][x]) + ""));
-                }
+                asciiMatrix[y][x] = glyphRamp.getGlyph(brightnessMatrix[y][x]);
             }
-            System.out.println();
         }
+        metrics.end(Stage.GLYPHS, cells);
+
+        if (options.isColored()) {
+            metrics.begin();
+            String[][] coloredAsciiMatrix = getColoredASCIIMatrix(asciiMatrix, rgbMatrix);
+            metrics.end(Stage.COLORS, cells);
+            metrics.begin();
+            emitter.emit(coloredAsciiMatrix);
+        } else {
+            metrics.begin();
+            emitter.emit(asciiMatrix);
+        }
+        metrics.end(Stage.OUTPUT, cells);
+    }
+
+    private static void renderPacked(int[] rgbArray, RenderOptions options, RenderContext context,
+                                     RenderMetrics metrics) throws IOException {
+        int width = options.getWidth();
+        int height = options.getHeight();
+        long cells = (long) width * height;
+        Frame frame = context.getFrame(width, height);
+
+        metrics.begin();
+        int[] brightnessArray = getBrightnessArray(rgbArray, options.getBrightnessMapping(),
+                context.getBrightness(width, height));
+        metrics.end(Stage.BRIGHTNESS, cells);
+
+        metrics.begin();
+        getASCIIArray(brightnessArray, options.getGlyphRamp(), frame.getGlyphs());
+        metrics.end(Stage.GLYPHS, cells);
+
+        ColorMode colorMode = options.getFrameColorMode();
+        if (colorMode != null) {
+            metrics.begin();
+            getColorIndexArray(rgbArray, colorMode, frame.getColors());
+            metrics.end(Stage.COLORS, cells);
+        }
+        frame.setColorMode(colorMode);
+
+        metrics.begin();
+        context.getEmitter().emit(frame);
+        metrics.end(Stage.OUTPUT, cells);
     }
 }
@@ -0,0 +1,321 @@
+/*
+ * AnsiEncoder.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.ColorMode;
+
+import static com.grantranda.asciiart.ASCIIArt.BASIC_COLOR_NAMES;
+import static com.grantranda.asciiart.ASCIIArt.CHAR_PADDING;
+
+/**
+ * AnsiEncoder encodes colored frames as ANSI escape sequences, writing the bytes of each SGR
+ * sequence straight into a reusable buffer from precomputed tables. The current foreground color
+ * is tracked along each row and a color escape is only written when the color changes, rather
+ * than wrapping every character in its own color and reset sequences. Each row ends with a reset
+ * so that colors never bleed into the next line.
+ *
+ * @author Grant Randa
+ */
+public class AnsiEncoder {
+
+    /**
+     * The number of bytes that the per-character encoding spends on escape sequences for each
+     * printed character: a five-byte foreground color sequence and a three-byte reset sequence.
+     */
+    public static final int PER_CELL_ESCAPE_BYTES = 8;
+
+    private static final byte ESCAPE = 0x1B;
+    static final byte[] RESET = {ESCAPE, '[', 'm'};
+
+    /**
+     * Clears the terminal.
+     */
+    static final byte[] CLEAR_SCREEN = {ESCAPE, '[', '2', 'J'};
+
+    /**
+     * Erases from the cursor to the end of its line.
+     */
+    static final byte[] ERASE_LINE = {ESCAPE, '[', 'K'};
+
+    /**
+     * Erases from the cursor to the end of the screen.
+     */
+    static final byte[] ERASE_BELOW = {ESCAPE, '[', 'J'};
+    static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes();
+
+    /**
+     * The SGR foreground color codes of {@link ASCIIArt#BASIC_COLORS}, in the same order.
+     */
+    private static final int[] FOREGROUND_CODES = {30, 34, 36, 32, 31, 37, 33, 35};
+    private static final byte[][] FOREGROUNDS = new byte[FOREGROUND_CODES.length][];
+    private static final byte[][] XTERM_256_FOREGROUNDS = new byte[256][];
+    private static final byte[][] DECIMALS = new byte[256][];
+    private static final byte[] TRUECOLOR_PREFIX = "\u001B[38;2;".getBytes();
+    private static final int MAX_TRUECOLOR_LENGTH = TRUECOLOR_PREFIX.length + 12;
+
+    static {
+        for (int i = 0; i < FOREGROUND_CODES.length; i++) {
+            FOREGROUNDS[i] = getSequence(FOREGROUND_CODES[i]);
+        }
+        for (int i = 0; i < 256; i++) {
+            XTERM_256_FOREGROUNDS[i] = ("\u001B[38;5;" + i + "m").getBytes();
+            DECIMALS[i] = Integer.toString(i).getBytes();
+        }
+    }
+
+    private byte[] buffer = new byte[0];
+    private int encodedSize;
+    private int colorChanges;
+    private long perCellSize;
+
+    /**
+     * Returns the SGR escape sequence for a single parameter.
+     *
+     * @param parameter the SGR parameter.
+     * @return the bytes of the escape sequence.
+     */
+    static byte[] getSequence(int parameter) {
+        return ("\u001B[" + parameter + "m").getBytes();
+    }
+
+    /**
+     * Encodes a colored frame of {@link ColorMode#BASIC} color codes into the buffer returned by
+     * {@link #getBuffer()}.
+     *
+     * @param asciiArray      an array of ASCII characters.
+     * @param colorIndexArray an array of indices into {@link ASCIIArt#BASIC_COLORS}.
+     * @param width           the frame width.
+     * @param height          the frame height.
+     * @return the number of encoded bytes.
+     */
+    public int encode(char[] asciiArray, int[] colorIndexArray, int width, int height) {
+        return encode(asciiArray, colorIndexArray, width, height, ColorMode.BASIC);
+    }
+
+    /**
+     * Encodes a colored frame into the buffer returned by {@link #getBuffer()}.
+     *
+     * @param asciiArray an array of ASCII characters.
+     * @param colors     an array of color codes in the given color mode.
+     * @param width      the frame width.
+     * @param height     the frame height.
+     * @param colorMode  the color mode of the color codes.
+     * @return the number of encoded bytes.
+     */
+    public int encode(char[] asciiArray, int[] colors, int width, int height, ColorMode colorMode) {
+        ensureCapacity(height * (width * (getMaxSequenceLength(colorMode) + CHAR_PADDING) + RESET.length
+                + LINE_SEPARATOR.length));
+        byte[] buffer = this.buffer;
+        int position = 0;
+        long escapeBytes = 0;
+        colorChanges = 0;
+
+        for (int y = 0; y < height; y++) {
+            int currentColor = -1;
+            for (int i = y * width; i < (y + 1) * width; i++) {
+                int color = colors[i];
+                if (color != currentColor) {
+                    currentColor = color;
+                    int start = position;
+                    position = appendForeground(buffer, colorMode, color, position);
+                    escapeBytes += position - start;
+                    colorChanges++;
+                } else if (colorMode == ColorMode.TRUECOLOR) {
+                    escapeBytes += getTruecolorLength(color);
+                } else {
+                    escapeBytes += colorMode == ColorMode.BASIC ? FOREGROUNDS[color].length
+                            : XTERM_256_FOREGROUNDS[color].length;
+                }
+                byte c = (byte) asciiArray[i];
+                for (int p = 0; p < CHAR_PADDING; p++) {
+                    buffer[position++] = c;
+                }
+            }
+            position = append(buffer, RESET, position);
+            position = append(buffer, LINE_SEPARATOR, position);
+        }
+
+        int characters = width * height * CHAR_PADDING;
+        perCellSize = characters + (long) height * LINE_SEPARATOR.length
+                + CHAR_PADDING * (escapeBytes + (long) width * height * RESET.length);
+        encodedSize = position;
+        return position;
+    }
+
+    /**
+     * Encodes a matrix of color-coded ASCII characters, as returned by
+     * {@link ASCIIArt#getColoredASCIIMatrix(char[][], java.awt.Color[][])}, into the buffer returned by
+     * {@link #getBuffer()}. Every character is wrapped in its own color and reset sequences.
+     *
+     * @param coloredAsciiMatrix a matrix of color-coded ASCII characters.
+     * @return the number of encoded bytes.
+     */
+    public int encode(String[][] coloredAsciiMatrix) {
+        int width = coloredAsciiMatrix[0].length;
+        int height = coloredAsciiMatrix.length;
+        ensureCapacity(height * (width * CHAR_PADDING * (FOREGROUNDS[0].length + 1 + RESET.length)
+                + LINE_SEPARATOR.length));
+        int position = 0;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                String cell = coloredAsciiMatrix[y][x];
+                int nameEnd = cell.indexOf(' ', 2);
+                byte[] foreground = FOREGROUNDS[getColorIndex(cell, nameEnd)];
+                byte c = (byte) cell.charAt(nameEnd + 1);
+                for (int p = 0; p < CHAR_PADDING; p++) {
+                    position = append(buffer, foreground, position);
+                    buffer[position++] = c;
+                    position = append(buffer, RESET, position);
+                }
+            }
+            position = append(buffer, LINE_SEPARATOR, position);
+        }
+
+        perCellSize = position;
+        colorChanges = width * height * CHAR_PADDING;
+        encodedSize = position;
+        return position;
+    }
+
+    /**
+     * Returns the buffer holding the most recently encoded frame. The buffer is reused by the next
+     * call to encode.
+     *
+     * @return the encoding buffer.
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns the number of color escapes written in the most recently encoded frame.
+     *
+     * @return the number of color changes.
+     */
+    public int getColorChanges() {
+        return colorChanges;
+    }
+
+    /**
+     * Returns the size in bytes of the most recently encoded frame.
+     *
+     * @return the encoded size.
+     */
+    public long getEncodedSize() {
+        return encodedSize;
+    }
+
+    /**
+     * Returns the size in bytes that the most recently encoded frame would have if every character
+     * were wrapped in its own color and reset sequences.
+     *
+     * @return the size of the per-character encoding.
+     */
+    public long getPerCellSize() {
+        return perCellSize;
+    }
+
+    /**
+     * Returns a summary of the bytes saved on the most recently encoded frame.
+     *
+     * @return a description of the encoded size compared to the per-character encoding.
+     */
+    public String getStats() {
+        long saved = perCellSize - encodedSize;
+        return String.format("%d bytes/frame with %d color changes, %d bytes/frame per character: "
+                        + "%d bytes (%.1f%%) saved",
+                encodedSize, colorChanges, perCellSize, saved, perCellSize == 0 ? 0 : 100.0 * saved / perCellSize);
+    }
+
+    private static int getColorIndex(String cell, int nameEnd) {
+        for (int i = 0; i < BASIC_COLOR_NAMES.length; i++) {
+            String name = BASIC_COLOR_NAMES[i];
+            if (name.length() == nameEnd - 2 && cell.regionMatches(2, name, 0, name.length())) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown color in " + cell);
+    }
+
+    /**
+     * Returns the length of the longest foreground color sequence in the given color mode.
+     */
+    static int getMaxSequenceLength(ColorMode colorMode) {
+        if (colorMode == ColorMode.TRUECOLOR) {
+            return MAX_TRUECOLOR_LENGTH;
+        }
+        return colorMode == ColorMode.XTERM256 ? XTERM_256_FOREGROUNDS[255].length : FOREGROUNDS[0].length;
+    }
+
+    private static int getTruecolorLength(int rgb) {
+        return TRUECOLOR_PREFIX.length + DECIMALS[(rgb >> 16) & 0xFF].length + DECIMALS[(rgb >> 8) & 0xFF].length
+                + DECIMALS[rgb & 0xFF].length + 3;
+    }
+
+    /**
+     * Writes the foreground color sequence of a color code into a buffer.
+     *
+     * @return the position following the sequence.
+     */
+    static int appendForeground(byte[] buffer, ColorMode colorMode, int color, int position) {
+        if (colorMode == ColorMode.BASIC) {
+            return append(buffer, FOREGROUNDS[color], position);
+        } else if (colorMode == ColorMode.XTERM256) {
+            return append(buffer, XTERM_256_FOREGROUNDS[color], position);
+        }
+        position = append(buffer, TRUECOLOR_PREFIX, position);
+        position = append(buffer, DECIMALS[(color >> 16) & 0xFF], position);
+        buffer[position++] = ';';
+        position = append(buffer, DECIMALS[(color >> 8) & 0xFF], position);
+        buffer[position++] = ';';
+        position = append(buffer, DECIMALS[color & 0xFF], position);
+        buffer[position++] = 'm';
+        return position;
+    }
+
+    /**
+     * Writes a sequence that moves the cursor to the given row and column, both counted from 1, into a buffer.
+     *
+     * @return the position following the sequence.
+     */
+    static int appendCursorPosition(byte[] buffer, int row, int column, int position) {
+        buffer[position++] = ESCAPE;
+        buffer[position++] = '[';
+        position = appendDecimal(buffer, row, position);
+        buffer[position++] = ';';
+        position = appendDecimal(buffer, column, position);
+        buffer[position++] = 'H';
+        return position;
+    }
+
+    static int append(byte[] buffer, byte[] sequence, int position) {
+        System.arraycopy(sequence, 0, buffer, position, sequence.length);
+        return position + sequence.length;
+    }
+
+    private static int appendDecimal(byte[] buffer, int value, int position) {
+        if (value < DECIMALS.length) {
+            return append(buffer, DECIMALS[value], position);
+        }
+        int digits = 1;
+        for (int remaining = value; remaining >= 10; remaining /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (buffer.length < capacity) {
+            buffer = new byte[capacity];
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * BatchConverter.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * BatchConverter converts every image in a directory, or every file matching a glob, into a text
+ * file. Colored images are written as raw ANSI escape sequences to .ans files and uncolored images
+ * as plain text to .txt files, named after the whole name of the image, so that images that only
+ * differ in their extension, such as a.png and a.jpg, are written to a.png.ans and a.jpg.ans. Images
+ * are converted on a fixed pool of workers, and the number of decoded images held in memory at once is
+ * bounded separately from the number of workers.
+ *
+ * @author Grant Randa
+ */
+public class BatchConverter {
+
+    private static final Pattern GLOB_CHARACTERS = Pattern.compile("[*?\\[{]");
+    private static final Set<String> IMAGE_SUFFIXES = new HashSet<>();
+
+    static {
+        for (String suffix : ImageIO.getReaderFileSuffixes()) {
+            IMAGE_SUFFIXES.add(suffix.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private final RenderOptions options;
+    private final int workers;
+    private final int maxInFlight;
+
+    /**
+     * Creates a BatchConverter.
+     *
+     * @param options     the options used to render each image.
+     * @param workers     the number of images converted concurrently.
+     * @param maxInFlight the maximum number of decoded images held in memory at once.
+     */
+    public BatchConverter(RenderOptions options, int workers, int maxInFlight) {
+        if (workers <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("Worker and in-flight image counts must be positive");
+        }
+        this.options = options;
+        this.workers = workers;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Returns the image files in a directory, or the files matching a glob such as
+     * {@code photos/*.jpg}. A directory is not searched recursively, but a glob may match files in
+     * subdirectories, as in {@code photos/**.jpg}.
+     *
+     * @param pattern a directory or a glob.
+     * @return the matching files, sorted by path.
+     * @throws IOException if the files cannot be listed.
+     */
+    public static List<Path> findImages(String pattern) throws IOException {
+        Path directory = Paths.get(pattern);
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                return files.filter(Files::isRegularFile)
+                        .filter(BatchConverter::isImage)
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+        }
+
+        List<String> base = new ArrayList<>();
+        for (String part : pattern.split(Pattern.quote(File.separator), -1)) {
+            if (GLOB_CHARACTERS.matcher(part).find()) {
+                break;
+            }
+            base.add(part);
+        }
+        String rootName = String.join(File.separator, base);
+        Path root = Paths.get(rootName.isEmpty() && pattern.startsWith(File.separator) ? File.separator : rootName);
+        if (!Files.isDirectory(root.toAbsolutePath())) {
+            throw new IOException("No such directory: " + root.toAbsolutePath());
+        }
+
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(matcher::matches)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Converts every given image, writing each result next to its source image if the output directory
+     * is null. Otherwise, each result is written to the output directory at the path of its image
+     * relative to the deepest directory that contains every image, so images in different
+     * subdirectories are kept apart.
+     *
+     * @param images          the images to convert.
+     * @param outputDirectory the directory that converted images are written to, or null.
+     * @return the aggregate statistics of the batch.
+     * @throws IOException if an output directory cannot be created, or two images would be written to
+     *                     the same file.
+     */
+    public Result convert(List<Path> images, Path outputDirectory) throws IOException {
+        Map<Path, Path> outputs = getOutputPaths(images, outputDirectory);
+        for (Path output : outputs.values()) {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        AtomicInteger converted = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicLong decodedBytes = new AtomicLong();
+        long start = System.nanoTime();
+
+        for (Path image : images) {
+            executor.execute(() -> {
+                try {
+                    Path output = outputs.get(image);
+                    inFlight.acquire();
+                    try {
+                        BufferedImage decoded = ImageDecoder.decode(image.toFile(), options.getWidth(),
+                                options.getHeight());
+                        decodedBytes.addAndGet(4L * decoded.getWidth() * decoded.getHeight());
+                        try (FileSink sink = new FileSink(output)) {
+                            ASCIIArt.render(decoded, options, new FrameEmitter(sink));
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                    converted.incrementAndGet();
+                } catch (IOException | RuntimeException e) {
+                    failed.incrementAndGet();
+                    System.out.println("Unable to convert " + image + ": " + e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        return new Result(converted.get(), failed.get(), decodedBytes.get(), System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the file that each image is written to, failing before anything is converted if two
+     * images would be written to the same file.
+     */
+    private Map<Path, Path> getOutputPaths(List<Path> images, Path outputDirectory) throws IOException {
+        Path base = outputDirectory != null ? getCommonDirectory(images) : null;
+        Map<Path, Path> outputs = new HashMap<>();
+        Map<Path, Path> sources = new HashMap<>();
+        for (Path image : images) {
+            String name = image.getFileName() + (options.isColored() ? ".ans" : ".txt");
+            Path output;
+            if (outputDirectory == null) {
+                output = image.resolveSibling(name);
+            } else {
+                Path relative = base.relativize(image.toAbsolutePath().normalize());
+                output = outputDirectory.resolve(relative.resolveSibling(name).toString());
+            }
+            Path other = sources.put(output.toAbsolutePath().normalize(), image);
+            if (other != null) {
+                throw new IOException(other + " and " + image + " would both be written to " + output);
+            }
+            outputs.put(image, output);
+        }
+        return outputs;
+    }
+
+    /**
+     * Returns the deepest directory that contains every image.
+     */
+    private static Path getCommonDirectory(List<Path> images) {
+        Path common = null;
+        for (Path image : images) {
+            Path directory = image.toAbsolutePath().normalize().getParent();
+            if (common == null) {
+                common = directory;
+            }
+            while (!directory.startsWith(common)) {
+                common = common.getParent();
+            }
+        }
+        return common;
+    }
+
+    private static boolean isImage(Path file) {
+        String name = file.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        return extension > 0 && IMAGE_SUFFIXES.contains(name.substring(extension + 1).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * The aggregate statistics of a batch conversion.
+     */
+    public static class Result {
+
+        private final int converted;
+        private final int failed;
+        private final long decodedBytes;
+        private final long elapsedNanos;
+
+        Result(int converted, int failed, long decodedBytes, long elapsedNanos) {
+            this.converted = converted;
+            this.failed = failed;
+            this.decodedBytes = decodedBytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getConverted() {
+            return converted;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public long getDecodedBytes() {
+            return decodedBytes;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1e9;
+            return String.format("%d images converted, %d failed in %.3f s: %.2f images/sec, %.2f MB/sec decoded",
+                    converted, failed, seconds, converted / seconds, decodedBytes / 1e6 / seconds);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * BilinearResampler.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * BilinearResampler resizes images by interpolating between the four source pixels nearest to the
+ * center of each destination pixel.
+ *
+ * @author Grant Randa
+ */
+public class BilinearResampler implements Resampler {
+
+    @Override
+    public int[] resample(BufferedImage image, int width, int height, int[] destination) {
+        return resample(image, width, height, destination, null);
+    }
+
+    @Override
+    public int[] resample(BufferedImage image, int width, int height, int[] destination, RenderContext context) {
+        int sourceWidth = image.getWidth();
+        int sourceHeight = image.getHeight();
+        int[] source = context != null ? context.getSourcePixels(image) : ASCIIArt.getPixels(image);
+
+        Columns columns = RenderContext.getScratch(context, Columns.class, Columns::new);
+        columns.resize(sourceWidth, width);
+        int[] leftColumns = columns.leftColumns;
+        int[] rightColumns = columns.rightColumns;
+        float[] rightWeights = columns.rightWeights;
+
+        for (int y = 0; y < height; y++) {
+            float sourceY = clamp((y + 0.5f) * sourceHeight / height - 0.5f, sourceHeight - 1);
+            int top = (int) sourceY * sourceWidth;
+            int bottom = Math.min((int) sourceY + 1, sourceHeight - 1) * sourceWidth;
+            float bottomWeight = sourceY - (int) sourceY;
+
+            for (int x = 0; x < width; x++) {
+                float rightWeight = rightWeights[x];
+                int topLeft = source[top + leftColumns[x]];
+                int topRight = source[top + rightColumns[x]];
+                int bottomLeft = source[bottom + leftColumns[x]];
+                int bottomRight = source[bottom + rightColumns[x]];
+
+                int argb = 0;
+                for (int shift = 24; shift >= 0; shift -= 8) {
+                    float upper = ((topLeft >>> shift) & 0xFF)
+                            + (((topRight >>> shift) & 0xFF) - ((topLeft >>> shift) & 0xFF)) * rightWeight;
+                    float lower = ((bottomLeft >>> shift) & 0xFF)
+                            + (((bottomRight >>> shift) & 0xFF) - ((bottomLeft >>> shift) & 0xFF)) * rightWeight;
+                    argb |= Math.round(upper + (lower - upper) * bottomWeight) << shift;
+                }
+                destination[y * width + x] = argb;
+            }
+        }
+        return destination;
+    }
+
+    private static float clamp(float value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+
+    /**
+     * The two source columns nearest to each destination column and the weight of the right one, which
+     * are only computed again when the source or destination width changes.
+     */
+    static class Columns {
+
+        int[] leftColumns;
+        int[] rightColumns;
+        float[] rightWeights;
+        private int sourceWidth = -1;
+        private int width = -1;
+
+        void resize(int sourceWidth, int width) {
+            if (sourceWidth == this.sourceWidth && width == this.width) {
+                return;
+            }
+            leftColumns = new int[width];
+            rightColumns = new int[width];
+            rightWeights = new float[width];
+            for (int x = 0; x < width; x++) {
+                float sourceX = clamp((x + 0.5f) * sourceWidth / width - 0.5f, sourceWidth - 1);
+                leftColumns[x] = (int) sourceX;
+                rightColumns[x] = Math.min(leftColumns[x] + 1, sourceWidth - 1);
+                rightWeights[x] = sourceX - leftColumns[x];
+            }
+            this.sourceWidth = sourceWidth;
+            this.width = width;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * BoxResampler.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * BoxResampler resizes images by averaging the block of source pixels that each destination pixel
+ * covers. Source pixels are read one row at a time, so the source image is never copied as a whole.
+ *
+ * @author Grant Randa
+ */
+public class BoxResampler implements Resampler {
+
+    @Override
+    public int[] resample(BufferedImage image, int width, int height, int[] destination) {
+        return resample(image, width, height, destination, null);
+    }
+
+    @Override
+    public int[] resample(BufferedImage image, int width, int height, int[] destination, RenderContext context) {
+        int sourceWidth = image.getWidth();
+        int sourceHeight = image.getHeight();
+        Blocks blocks = RenderContext.getScratch(context, Blocks.class, Blocks::new);
+        blocks.resize(sourceWidth, width);
+        int[] columnStarts = blocks.columnStarts;
+        int[] columnEnds = blocks.columnEnds;
+        int[] row = blocks.row;
+        long[] alphaSums = blocks.sums[0];
+        long[] redSums = blocks.sums[1];
+        long[] greenSums = blocks.sums[2];
+        long[] blueSums = blocks.sums[3];
+
+        for (int y = 0; y < height; y++) {
+            int rowStart = (int) ((long) y * sourceHeight / height);
+            int rowEnd = Math.max(rowStart + 1, (int) ((long) (y + 1) * sourceHeight / height));
+
+            for (int x = 0; x < width; x++) {
+                alphaSums[x] = 0;
+                redSums[x] = 0;
+                greenSums[x] = 0;
+                blueSums[x] = 0;
+            }
+
+            for (int sourceY = rowStart; sourceY < rowEnd; sourceY++) {
+                ASCIIArt.getRow(image, sourceY, row);
+                for (int x = 0; x < width; x++) {
+                    long a = 0;
+                    long r = 0;
+                    long g = 0;
+                    long b = 0;
+                    for (int sourceX = columnStarts[x]; sourceX < columnEnds[x]; sourceX++) {
+                        int argb = row[sourceX];
+                        a += argb >>> 24;
+                        r += (argb >> 16) & 0xFF;
+                        g += (argb >> 8) & 0xFF;
+                        b += argb & 0xFF;
+                    }
+                    alphaSums[x] += a;
+                    redSums[x] += r;
+                    greenSums[x] += g;
+                    blueSums[x] += b;
+                }
+            }
+
+            int rows = rowEnd - rowStart;
+            for (int x = 0; x < width; x++) {
+                long count = (long) rows * (columnEnds[x] - columnStarts[x]);
+                long half = count / 2;
+                destination[y * width + x] = (int) ((alphaSums[x] + half) / count) << 24
+                        | (int) ((redSums[x] + half) / count) << 16
+                        | (int) ((greenSums[x] + half) / count) << 8
+                        | (int) ((blueSums[x] + half) / count);
+            }
+        }
+        return destination;
+    }
+
+    /**
+     * Returns the first source index covered by each destination index.
+     *
+     * @param sourceLength      the source width or height.
+     * @param destinationLength the destination width or height.
+     * @return an array containing the first covered source index for each destination index.
+     */
+    static int[] getBlockStarts(int sourceLength, int destinationLength) {
+        int[] starts = new int[destinationLength];
+        for (int i = 0; i < destinationLength; i++) {
+            starts[i] = (int) ((long) i * sourceLength / destinationLength);
+        }
+        return starts;
+    }
+
+    /**
+     * Returns the source index after the last one covered by each destination index. Every
+     * destination index covers at least one source index.
+     *
+     * @param sourceLength      the source width or height.
+     * @param destinationLength the destination width or height.
+     * @param starts            the array returned by {@link #getBlockStarts(int, int)}.
+     * @return an array containing the exclusive end of the covered source indices for each destination index.
+     */
+    static int[] getBlockEnds(int sourceLength, int destinationLength, int[] starts) {
+        int[] ends = new int[destinationLength];
+        for (int i = 0; i < destinationLength; i++) {
+            ends[i] = Math.max(starts[i] + 1, (int) ((long) (i + 1) * sourceLength / destinationLength));
+        }
+        return ends;
+    }
+
+    /**
+     * The column blocks, source row and per-column sums used to average blocks of source pixels, which
+     * are also used by {@link CellSampler}. They are only replaced when the source or destination width
+     * changes.
+     */
+    static class Blocks {
+
+        int[] columnStarts;
+        int[] columnEnds;
+        int[] row;
+        final long[][] sums = new long[4][];
+        private int sourceWidth = -1;
+        private int width = -1;
+
+        /**
+         * Sizes the arrays for blocks of the given source width averaged into the given width.
+         *
+         * @param sourceWidth the source width.
+         * @param width       the destination width.
+         */
+        void resize(int sourceWidth, int width) {
+            if (sourceWidth == this.sourceWidth && width == this.width) {
+                return;
+            }
+            columnStarts = getBlockStarts(sourceWidth, width);
+            columnEnds = getBlockEnds(sourceWidth, width, columnStarts);
+            row = new int[sourceWidth];
+            for (int i = 0; i < sums.length; i++) {
+                sums[i] = new long[width];
+            }
+            this.sourceWidth = sourceWidth;
+            this.width = width;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * CellSampler.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.Brightness;
+import com.grantranda.asciiart.ASCIIArt.ColorMode;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+
+/**
+ * CellSampler converts a full-size source image straight into a {@link Frame} without resizing it
+ * first. Each character cell takes the mean brightness and mean color of the block of source pixels
+ * it covers. The sums of a row of cells are accumulated one source row at a time, so the source image
+ * is read once and never copied or resized. The source is either an image or, for {@link VideoStream},
+ * a buffer of raw rgb24 pixels.
+ *
+ * @author Grant Randa
+ */
+public class CellSampler {
+
+    private CellSampler() {
+
+    }
+
+    /**
+     * Converts an image into the given frame, sampling the source pixels covered by each cell.
+     *
+     * @param image             the source image.
+     * @param frame             the frame that characters and color codes are written to.
+     * @param brightnessMapping the brightness mapping used to calculate brightness values.
+     * @param glyphRamp         the ramp used to map brightness levels to ASCII characters.
+     * @param colorMode         the color mode of the color codes written to the frame, or null if the
+     *                          frame is uncolored.
+     */
+    public static void sample(BufferedImage image, Frame frame, Brightness brightnessMapping, GlyphRamp glyphRamp,
+                              ColorMode colorMode) {
+        sample(image, frame, brightnessMapping, glyphRamp, colorMode, null);
+    }
+
+    /**
+     * Converts an image into the given frame, sampling the source pixels covered by each cell, and keeps
+     * the arrays that the conversion works in in the given context.
+     *
+     * @param image             the source image.
+     * @param frame             the frame that characters and color codes are written to.
+     * @param brightnessMapping the brightness mapping used to calculate brightness values.
+     * @param glyphRamp         the ramp used to map brightness levels to ASCII characters.
+     * @param colorMode         the color mode of the color codes written to the frame, or null if the
+     *                          frame is uncolored.
+     * @param context           the context that the working arrays are kept in, or null to allocate them
+     *                          for this call.
+     */
+    public static void sample(BufferedImage image, Frame frame, Brightness brightnessMapping, GlyphRamp glyphRamp,
+                              ColorMode colorMode, RenderContext context) {
+        sample(image, null, image.getWidth(), image.getHeight(), frame, brightnessMapping, glyphRamp, colorMode,
+                context);
+    }
+
+    /**
+     * Converts a frame of raw rgb24 pixels into the given frame, sampling the source pixels covered by
+     * each cell, and keeps the arrays that the conversion works in in the given context.
+     *
+     * @param rgb24             a buffer of three bytes per pixel, stored row by row, read from index 0.
+     *                          Its position is changed by the conversion.
+     * @param sourceWidth       the width of the source pixels.
+     * @param sourceHeight      the height of the source pixels.
+     * @param frame             the frame that characters and color codes are written to.
+     * @param brightnessMapping the brightness mapping used to calculate brightness values.
+     * @param glyphRamp         the ramp used to map brightness levels to ASCII characters.
+     * @param colorMode         the color mode of the color codes written to the frame, or null if the
+     *                          frame is uncolored.
+     * @param context           the context that the working arrays are kept in.
+     */
+    static void sample(ByteBuffer rgb24, int sourceWidth, int sourceHeight, Frame frame,
+                       Brightness brightnessMapping, GlyphRamp glyphRamp, ColorMode colorMode,
+                       RenderContext context) {
+        sample(null, rgb24, sourceWidth, sourceHeight, frame, brightnessMapping, glyphRamp, colorMode, context);
+    }
+
+    /**
+     * Converts either an image or a buffer of rgb24 pixels, whichever is not null, into a frame.
+     */
+    private static void sample(BufferedImage image, ByteBuffer rgb24, int sourceWidth, int sourceHeight,
+                               Frame frame, Brightness brightnessMapping, GlyphRamp glyphRamp, ColorMode colorMode,
+                               RenderContext context) {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        char[] glyphs = frame.getGlyphs();
+        int[] colors = frame.getColors();
+
+        BoxResampler.Blocks blocks = RenderContext.getScratch(context, BoxResampler.Blocks.class,
+                BoxResampler.Blocks::new);
+        blocks.resize(sourceWidth, width);
+        int[] columnStarts = blocks.columnStarts;
+        int[] columnEnds = blocks.columnEnds;
+        int[] row = blocks.row;
+        long[] redSums = blocks.sums[0];
+        long[] greenSums = blocks.sums[1];
+        long[] blueSums = blocks.sums[2];
+        long[] brightnessSums = blocks.sums[3];
+        byte[] bytes = null;
+        if (rgb24 != null) {
+            bytes = RenderContext.getScratch(context, Rgb24Row.class, Rgb24Row::new).resize(sourceWidth);
+        }
+
+        for (int y = 0; y < height; y++) {
+            int rowStart = (int) ((long) y * sourceHeight / height);
+            int rowEnd = Math.max(rowStart + 1, (int) ((long) (y + 1) * sourceHeight / height));
+
+            for (int x = 0; x < width; x++) {
+                redSums[x] = 0;
+                greenSums[x] = 0;
+                blueSums[x] = 0;
+                brightnessSums[x] = 0;
+            }
+
+            for (int sourceY = rowStart; sourceY < rowEnd; sourceY++) {
+                if (image != null) {
+                    ASCIIArt.getRow(image, sourceY, row);
+                } else {
+                    getRow(rgb24, sourceY, sourceWidth, bytes, row);
+                }
+                for (int x = 0; x < width; x++) {
+                    int red = 0;
+                    int green = 0;
+                    int blue = 0;
+                    int brightness = 0;
+                    for (int sourceX = columnStarts[x]; sourceX < columnEnds[x]; sourceX++) {
+                        int rgb = row[sourceX];
+                        int r = (rgb >> 16) & 0xFF;
+                        int g = (rgb >> 8) & 0xFF;
+                        int b = rgb & 0xFF;
+                        red += r;
+                        green += g;
+                        blue += b;
+                        brightness += ASCIIArt.getBrightness(r, g, b, brightnessMapping);
+                    }
+                    redSums[x] += red;
+                    greenSums[x] += green;
+                    blueSums[x] += blue;
+                    brightnessSums[x] += brightness;
+                }
+            }
+
+            int rows = rowEnd - rowStart;
+            for (int x = 0; x < width; x++) {
+                long count = (long) rows * (columnEnds[x] - columnStarts[x]);
+                long half = count / 2;
+                int i = y * width + x;
+                glyphs[i] = glyphRamp.getGlyph((int) ((brightnessSums[x] + half) / count));
+                if (colorMode != null) {
+                    colors[i] = colorMode.getColor((int) ((redSums[x] + half) / count) << 16
+                            | (int) ((greenSums[x] + half) / count) << 8
+                            | (int) ((blueSums[x] + half) / count));
+                }
+            }
+        }
+        frame.setColorMode(colorMode);
+    }
+
+    /**
+     * Reads a row of rgb24 pixels as packed ARGB values, copying the bytes of the row out of the buffer
+     * at once, which is much faster than reading a direct buffer byte by byte.
+     */
+    private static void getRow(ByteBuffer rgb24, int y, int sourceWidth, byte[] bytes, int[] row) {
+        rgb24.position(y * sourceWidth * 3);
+        rgb24.get(bytes, 0, sourceWidth * 3);
+        for (int x = 0, offset = 0; x < sourceWidth; x++, offset += 3) {
+            row[x] = 0xFF000000 | (bytes[offset] & 0xFF) << 16 | (bytes[offset + 1] & 0xFF) << 8
+                    | (bytes[offset + 2] & 0xFF);
+        }
+    }
+
+    /**
+     * The bytes of one row of rgb24 pixels, which are only replaced when the source width changes.
+     */
+    static class Rgb24Row {
+
+        private byte[] bytes = new byte[0];
+
+        byte[] resize(int sourceWidth) {
+            if (bytes.length != sourceWidth * 3) {
+                bytes = new byte[sourceWidth * 3];
+            }
+            return bytes;
+        }
+    }
+}
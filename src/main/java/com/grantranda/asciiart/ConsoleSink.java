@@ -0,0 +1,60 @@
+/*
+ * ConsoleSink.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.io.PrintStream;
+
+/**
+ * ConsoleSink writes frames to a PrintStream, {@link System#out} by default, flushing after every
+ * write so that each frame appears as soon as it is finished. The default sink looks up
+ * {@link System#out} on every write rather than when it is created, so that it writes through the
+ * stream that Jansi installs even if it was created first.
+ *
+ * @author Grant Randa
+ */
+public class ConsoleSink implements OutputSink {
+
+    private final PrintStream out;
+    private long bytesWritten;
+
+    public ConsoleSink() {
+        this(null);
+    }
+
+    public ConsoleSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) {
+        PrintStream out = getStream();
+        out.write(buffer, offset, length);
+        out.flush();
+        bytesWritten += length;
+    }
+
+    @Override
+    public void flush() {
+        getStream().flush();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Flushes the stream without closing it, since the stream is usually {@link System#out}.
+     */
+    @Override
+    public void close() {
+        getStream().flush();
+    }
+
+    private PrintStream getStream() {
+        return out != null ? out : System.out;
+    }
+}
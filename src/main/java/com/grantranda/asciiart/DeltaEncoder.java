@@ -0,0 +1,237 @@
+/*
+ * DeltaEncoder.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.ColorMode;
+
+import static com.grantranda.asciiart.ASCIIArt.CHAR_PADDING;
+
+/**
+ * DeltaEncoder encodes a sequence of frames for a terminal that still shows the previous frame. It
+ * keeps a copy of the glyphs and colors of the last encoded frame, and for each new frame only writes
+ * the runs of cells that changed, each preceded by a cursor positioning sequence. When more than a
+ * given fraction of the cells changed, when the changes are so scattered that positioning the cursor
+ * for each run would cost more than a repaint, or when the dimensions or color mode of the frame
+ * changed, the whole frame is repainted instead. A repaint of a frame that is narrower or shorter than
+ * the previous one also erases the rest of each row and the lines below it, so that no cells of the
+ * previous frame are left on screen. Frames are always drawn from the top left corner of the terminal,
+ * and the cursor is left on the line below the frame.
+ *
+ * @author Grant Randa
+ */
+public class DeltaEncoder {
+
+    /**
+     * The default fraction of changed cells above which the whole frame is repainted.
+     */
+    public static final double DEFAULT_REPAINT_RATIO = 0.5;
+
+    /**
+     * The largest number of unchanged cells between two changed runs of a row that are rewritten to
+     * join the runs, since rewriting a few cells is shorter than positioning the cursor again.
+     */
+    public static final int MERGE_GAP = 3;
+
+    /**
+     * The length of the longest cursor positioning sequence.
+     */
+    private static final int MAX_CURSOR_POSITION_LENGTH = 2 + 10 + 1 + 10 + 1;
+
+    /**
+     * The length of a cursor positioning sequence with a three-digit row and column, used to estimate
+     * whether writing the changed runs is shorter than repainting.
+     */
+    private static final int TYPICAL_CURSOR_POSITION_LENGTH = 2 + 3 + 1 + 3 + 1;
+
+    private final double repaintRatio;
+    private byte[] buffer = new byte[0];
+    private char[] previousGlyphs;
+    private int[] previousColors;
+    private ColorMode previousColorMode;
+    private int previousWidth;
+    private int previousHeight;
+    private int changedCells;
+    private boolean repainted;
+
+    /**
+     * Creates a DeltaEncoder with the default repaint ratio.
+     */
+    public DeltaEncoder() {
+        this(DEFAULT_REPAINT_RATIO);
+    }
+
+    /**
+     * Creates a DeltaEncoder.
+     *
+     * @param repaintRatio the fraction of changed cells above which the whole frame is repainted, between
+     *                     0 and 1.
+     */
+    public DeltaEncoder(double repaintRatio) {
+        if (repaintRatio < 0 || repaintRatio > 1) {
+            throw new IllegalArgumentException("Repaint ratio must be between 0 and 1");
+        }
+        this.repaintRatio = repaintRatio;
+    }
+
+    /**
+     * Encodes the changes from the previously encoded frame to the given frame into the buffer returned
+     * by {@link #getBuffer()}. The first frame is always repainted.
+     *
+     * @param frame the next frame.
+     * @return the number of encoded bytes.
+     */
+    public int encode(Frame frame) {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        int cells = width * height;
+        char[] glyphs = frame.getGlyphs();
+        ColorMode colorMode = frame.getColorMode();
+        int[] colors = colorMode != null ? frame.getColors() : null;
+
+        boolean repaint = previousGlyphs == null || width != previousWidth || height != previousHeight
+                || colorMode != previousColorMode;
+        if (!repaint) {
+            changedCells = 0;
+            int runs = 0;
+            for (int y = 0; y < height; y++) {
+                int lastChanged = -MERGE_GAP - 2;
+                for (int x = 0; x < width; x++) {
+                    if (isChanged(glyphs, colors, y * width + x)) {
+                        if (x - lastChanged > MERGE_GAP + 1) {
+                            runs++;
+                        }
+                        lastChanged = x;
+                        changedCells++;
+                    }
+                }
+            }
+            long deltaSize = (long) changedCells * CHAR_PADDING + (long) runs * TYPICAL_CURSOR_POSITION_LENGTH;
+            long repaintSize = (long) cells * CHAR_PADDING + (long) height * TYPICAL_CURSOR_POSITION_LENGTH;
+            repaint = changedCells > repaintRatio * cells || deltaSize >= repaintSize;
+        }
+        if (repaint) {
+            changedCells = cells;
+        }
+        repainted = repaint;
+        boolean narrower = repaint && previousGlyphs != null && width < previousWidth;
+        boolean shorter = repaint && previousGlyphs != null && height < previousHeight;
+
+        int maxSequenceLength = colors != null ? AnsiEncoder.getMaxSequenceLength(colorMode) : 0;
+        int runs = height * ((width + 1) / 2);
+        int capacity = cells * (maxSequenceLength + CHAR_PADDING) + (runs + 1) * MAX_CURSOR_POSITION_LENGTH
+                + AnsiEncoder.RESET.length + height * AnsiEncoder.ERASE_LINE.length
+                + AnsiEncoder.ERASE_BELOW.length;
+        if (buffer.length < capacity) {
+            buffer = new byte[capacity];
+        }
+
+        byte[] buffer = this.buffer;
+        int position = 0;
+        int currentColor = -1;
+        for (int y = 0; y < height; y++) {
+            int rowStart = y * width;
+            int x = 0;
+            while (x < width) {
+                if (!repaint && !isChanged(glyphs, colors, rowStart + x)) {
+                    x++;
+                    continue;
+                }
+
+                int runEnd = width;
+                if (!repaint) {
+                    runEnd = x + 1;
+                    for (int end = x + 1; end < width && end - runEnd <= MERGE_GAP; end++) {
+                        if (isChanged(glyphs, colors, rowStart + end)) {
+                            runEnd = end + 1;
+                        }
+                    }
+                }
+
+                position = AnsiEncoder.appendCursorPosition(buffer, y + 1, x * CHAR_PADDING + 1, position);
+                for (int i = rowStart + x; i < rowStart + runEnd; i++) {
+                    if (colors != null && colors[i] != currentColor) {
+                        currentColor = colors[i];
+                        position = AnsiEncoder.appendForeground(buffer, colorMode, currentColor, position);
+                    }
+                    byte c = (byte) glyphs[i];
+                    for (int p = 0; p < CHAR_PADDING; p++) {
+                        buffer[position++] = c;
+                    }
+                }
+                x = runEnd;
+            }
+            if (narrower) {
+                position = AnsiEncoder.append(buffer, AnsiEncoder.ERASE_LINE, position);
+            }
+        }
+        if (currentColor != -1) {
+            position = AnsiEncoder.append(buffer, AnsiEncoder.RESET, position);
+        }
+        position = AnsiEncoder.appendCursorPosition(buffer, height + 1, 1, position);
+        if (shorter) {
+            position = AnsiEncoder.append(buffer, AnsiEncoder.ERASE_BELOW, position);
+        }
+
+        remember(glyphs, colors, width, height, colorMode);
+        return position;
+    }
+
+    /**
+     * Forgets the previously encoded frame, so that the next frame is repainted. This should be called
+     * whenever the terminal may no longer show the last frame, such as after other output.
+     */
+    public void reset() {
+        previousGlyphs = null;
+        previousColors = null;
+    }
+
+    /**
+     * Returns the buffer holding the most recently encoded frame. The buffer is reused by the next
+     * call to encode.
+     *
+     * @return the encoding buffer.
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns the number of cells written for the most recently encoded frame, not counting unchanged
+     * cells rewritten to join runs.
+     *
+     * @return the number of changed cells, or every cell if the frame was repainted.
+     */
+    public int getChangedCells() {
+        return changedCells;
+    }
+
+    /**
+     * Returns whether the most recently encoded frame was repainted in full.
+     *
+     * @return true if the whole frame was written.
+     */
+    public boolean isRepainted() {
+        return repainted;
+    }
+
+    private boolean isChanged(char[] glyphs, int[] colors, int i) {
+        return glyphs[i] != previousGlyphs[i] || colors != null && colors[i] != previousColors[i];
+    }
+
+    private void remember(char[] glyphs, int[] colors, int width, int height, ColorMode colorMode) {
+        if (previousGlyphs == null || previousGlyphs.length != glyphs.length) {
+            previousGlyphs = new char[glyphs.length];
+            previousColors = new int[glyphs.length];
+        }
+        System.arraycopy(glyphs, 0, previousGlyphs, 0, glyphs.length);
+        if (colors != null) {
+            System.arraycopy(colors, 0, previousColors, 0, colors.length);
+        }
+        previousWidth = width;
+        previousHeight = height;
+        previousColorMode = colorMode;
+    }
+}
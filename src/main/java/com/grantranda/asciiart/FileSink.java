@@ -0,0 +1,90 @@
+/*
+ * FileSink.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * FileSink writes frames to a file through a FileChannel. Small writes are gathered into a block
+ * buffer, and writes at least as large as the block go to the channel directly.
+ *
+ * @author Grant Randa
+ */
+public class FileSink implements OutputSink {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 18;
+
+    private final FileChannel channel;
+    private final ByteBuffer block;
+    private long bytesWritten;
+
+    /**
+     * Creates a FileSink that replaces the contents of the given file.
+     *
+     * @param path the file to write to.
+     * @throws IOException if the file cannot be opened.
+     */
+    public FileSink(Path path) throws IOException {
+        this(path, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a FileSink that replaces the contents of the given file.
+     *
+     * @param path      the file to write to.
+     * @param blockSize the size of the block buffer in bytes.
+     * @throws IOException if the file cannot be opened.
+     */
+    public FileSink(Path path, int blockSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.block = ByteBuffer.allocate(blockSize);
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        if (length > block.remaining()) {
+            flush();
+        }
+        if (length >= block.capacity()) {
+            writeFully(ByteBuffer.wrap(buffer, offset, length));
+        } else {
+            block.put(buffer, offset, length);
+        }
+        bytesWritten += length;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        block.flip();
+        writeFully(block);
+        block.clear();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Frame.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.ColorMode;
+
+/**
+ * Frame holds a converted image as a row-by-row array of ASCII characters and a matching array of
+ * color codes. A Frame can be reused for repeated conversions of the same dimensions.
+ *
+ * @author Grant Randa
+ */
+public class Frame {
+
+    private final int width;
+    private final int height;
+    private final char[] glyphs;
+    private final int[] colors;
+    private ColorMode colorMode;
+
+    /**
+     * Creates an empty Frame with the given dimensions.
+     *
+     * @param width  the frame width.
+     * @param height the frame height.
+     */
+    public Frame(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.glyphs = new char[width * height];
+        this.colors = new int[width * height];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the ASCII characters of the frame, stored row by row.
+     *
+     * @return the character array backing this frame.
+     */
+    public char[] getGlyphs() {
+        return glyphs;
+    }
+
+    /**
+     * Returns the color codes of the frame, stored row by row. The codes are only meaningful if the
+     * frame is colored.
+     *
+     * @return the color array backing this frame.
+     */
+    public int[] getColors() {
+        return colors;
+    }
+
+    public boolean isColored() {
+        return colorMode != null;
+    }
+
+    public void setColored(boolean colored) {
+        this.colorMode = colored ? ColorMode.BASIC : null;
+    }
+
+    /**
+     * Returns the color mode that the color codes of the frame are stored in.
+     *
+     * @return the color mode, or null if the frame is uncolored.
+     */
+    public ColorMode getColorMode() {
+        return colorMode;
+    }
+
+    public void setColorMode(ColorMode colorMode) {
+        this.colorMode = colorMode;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * FrameEmitter.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.ColorMode;
+
+import java.io.IOException;
+import java.io.PrintStream;
+
+import static com.grantranda.asciiart.ASCIIArt.CHAR_PADDING;
+
+/**
+ * FrameEmitter assembles an entire frame of ASCII characters into a single reusable buffer and
+ * writes it to an output stream in one call, instead of printing each character separately.
+ *
+ * @author Grant Randa
+ */
+public class FrameEmitter {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final OutputSink sink;
+    private final AnsiEncoder ansiEncoder = new AnsiEncoder();
+    private final DeltaEncoder deltaEncoder = new DeltaEncoder();
+    private byte[] buffer = new byte[0];
+    private int frameSize;
+
+    /**
+     * Creates a FrameEmitter that writes frames to {@link System#out}.
+     */
+    public FrameEmitter() {
+        this(new ConsoleSink());
+    }
+
+    /**
+     * Creates a FrameEmitter that writes frames to the given stream.
+     *
+     * @param out the stream that finished frames are written to.
+     */
+    public FrameEmitter(PrintStream out) {
+        this(new ConsoleSink(out));
+    }
+
+    /**
+     * Creates a FrameEmitter that writes frames to the given sink.
+     *
+     * @param sink the sink that finished frames are written to.
+     */
+    public FrameEmitter(OutputSink sink) {
+        this.sink = sink;
+    }
+
+    public OutputSink getSink() {
+        return sink;
+    }
+
+    /**
+     * Returns the encoder used for colored frames, whose statistics describe the most recently
+     * emitted colored frame.
+     *
+     * @return the ANSI encoder of this emitter.
+     */
+    public AnsiEncoder getAnsiEncoder() {
+        return ansiEncoder;
+    }
+
+    /**
+     * Returns the encoder used by {@link #emitChanges(Frame)}, whose statistics describe the most
+     * recently emitted changes.
+     *
+     * @return the delta encoder of this emitter.
+     */
+    public DeltaEncoder getDeltaEncoder() {
+        return deltaEncoder;
+    }
+
+    /**
+     * Returns the size in bytes of the most recently emitted frame.
+     *
+     * @return the number of bytes written by the last call to emit.
+     */
+    public int getFrameSize() {
+        return frameSize;
+    }
+
+    /**
+     * Writes a frame of uncolored ASCII characters.
+     *
+     * @param asciiMatrix a matrix of ASCII characters.
+     * @throws IOException if the frame cannot be written.
+     */
+    public void emit(char[][] asciiMatrix) throws IOException {
+        int width = asciiMatrix[0].length;
+        int height = asciiMatrix.length;
+        ensureCapacity(height * (width * CHAR_PADDING + LINE_SEPARATOR.length()));
+
+        int position = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                byte c = (byte) asciiMatrix[y][x];
+                for (int i = 0; i < CHAR_PADDING; i++) {
+                    buffer[position++] = c;
+                }
+            }
+            position = appendLineSeparator(position);
+        }
+        write(position);
+    }
+
+    /**
+     * Writes a frame of color-coded ASCII characters. The escape sequences of the whole frame are
+     * written straight into the encoder's buffer rather than rendered from Jansi markup.
+     *
+     * @param coloredAsciiMatrix a matrix of color-coded ASCII characters.
+     * @throws IOException if the frame cannot be written.
+     */
+    public void emit(String[][] coloredAsciiMatrix) throws IOException {
+        writeEncoded(ansiEncoder.encode(coloredAsciiMatrix));
+    }
+
+    /**
+     * Writes a frame of ASCII characters stored row by row in a single array.
+     *
+     * @param asciiArray      an array of ASCII characters.
+     * @param colorIndexArray an array of indices into {@link ASCIIArt#BASIC_COLORS}, or null if the frame
+     *                        is uncolored.
+     * @param width           the frame width.
+     * @param height          the frame height.
+     * @throws IOException if the frame cannot be written.
+     */
+    public void emit(char[] asciiArray, int[] colorIndexArray, int width, int height) throws IOException {
+        emit(asciiArray, colorIndexArray, width, height, ColorMode.BASIC);
+    }
+
+    /**
+     * Writes a frame of ASCII characters stored row by row in a single array.
+     *
+     * @param asciiArray an array of ASCII characters.
+     * @param colors     an array of color codes in the given color mode, or null if the frame is uncolored.
+     * @param width      the frame width.
+     * @param height     the frame height.
+     * @param colorMode  the color mode of the color codes.
+     * @throws IOException if the frame cannot be written.
+     */
+    public void emit(char[] asciiArray, int[] colors, int width, int height, ColorMode colorMode)
+            throws IOException {
+        if (colors == null) {
+            ensureCapacity(height * (width * CHAR_PADDING + LINE_SEPARATOR.length()));
+
+            int position = 0;
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    byte c = (byte) asciiArray[y * width + x];
+                    for (int i = 0; i < CHAR_PADDING; i++) {
+                        buffer[position++] = c;
+                    }
+                }
+                position = appendLineSeparator(position);
+            }
+            write(position);
+            return;
+        }
+
+        writeEncoded(ansiEncoder.encode(asciiArray, colors, width, height, colorMode));
+    }
+
+    /**
+     * Writes a converted frame.
+     *
+     * @param frame the frame to write.
+     * @throws IOException if the frame cannot be written.
+     */
+    public void emit(Frame frame) throws IOException {
+        emit(frame.getGlyphs(), frame.isColored() ? frame.getColors() : null, frame.getWidth(), frame.getHeight(),
+                frame.getColorMode());
+    }
+
+    /**
+     * Writes only the cells of a frame that changed since the last frame written by this method, for a
+     * terminal that still shows that frame. Frames are drawn from the top left corner of the terminal.
+     *
+     * @param frame the frame to write.
+     * @throws IOException if the frame cannot be written.
+     * @see DeltaEncoder
+     */
+    public void emitChanges(Frame frame) throws IOException {
+        int length = deltaEncoder.encode(frame);
+        sink.write(deltaEncoder.getBuffer(), 0, length);
+        frameSize = length;
+    }
+
+    private int appendLineSeparator(int position) {
+        for (int i = 0; i < LINE_SEPARATOR.length(); i++) {
+            buffer[position++] = (byte) LINE_SEPARATOR.charAt(i);
+        }
+        return position;
+    }
+
+    private void writeEncoded(int length) throws IOException {
+        sink.write(ansiEncoder.getBuffer(), 0, length);
+        frameSize = length;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (buffer.length < capacity) {
+            buffer = new byte[capacity];
+        }
+    }
+
+    private void write(int length) throws IOException {
+        sink.write(buffer, 0, length);
+        frameSize = length;
+    }
+}
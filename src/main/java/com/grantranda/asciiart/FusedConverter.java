@@ -0,0 +1,72 @@
+/*
+ * FusedConverter.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.Brightness;
+import com.grantranda.asciiart.ASCIIArt.ColorMode;
+
+/**
+ * FusedConverter converts RGB values to ASCII characters and color codes in a single pass. Each
+ * pixel is read once and its brightness, character and color are written straight into a
+ * {@link Frame} without any intermediate arrays.
+ *
+ * @author Grant Randa
+ */
+public class FusedConverter {
+
+    private FusedConverter() {
+
+    }
+
+    /**
+     * Converts an array of RGB values into the given frame.
+     *
+     * @param rgbArray          an array containing RGB values in the form of integers, stored row by row.
+     * @param frame             the frame that characters and color codes are written to.
+     * @param brightnessMapping the brightness mapping used to calculate brightness values.
+     * @param glyphRamp         the ramp used to map brightness levels to ASCII characters.
+     * @param colorMode         the color mode of the color codes written to the frame, or null if the
+     *                          frame is uncolored.
+     */
+    public static void convert(int[] rgbArray, Frame frame, Brightness brightnessMapping, GlyphRamp glyphRamp,
+                               ColorMode colorMode) {
+        convertRows(rgbArray, frame, brightnessMapping, glyphRamp, colorMode, 0, frame.getHeight());
+    }
+
+    /**
+     * Converts a range of rows from an array of RGB values into the given frame. Only the elements of
+     * the frame that belong to the given rows are written.
+     *
+     * @param rgbArray          an array containing RGB values in the form of integers, stored row by row.
+     * @param frame             the frame that characters and color codes are written to.
+     * @param brightnessMapping the brightness mapping used to calculate brightness values.
+     * @param glyphRamp         the ramp used to map brightness levels to ASCII characters.
+     * @param colorMode         the color mode of the color codes written to the frame, or null if the
+     *                          frame is uncolored.
+     * @param startRow          the first row to convert, inclusive.
+     * @param endRow            the last row to convert, exclusive.
+     */
+    public static void convertRows(int[] rgbArray, Frame frame, Brightness brightnessMapping, GlyphRamp glyphRamp,
+                                   ColorMode colorMode, int startRow, int endRow) {
+        char[] glyphs = frame.getGlyphs();
+        int[] colors = frame.getColors();
+        int start = startRow * frame.getWidth();
+        int end = endRow * frame.getWidth();
+
+        for (int i = start; i < end; i++) {
+            int rgb = rgbArray[i];
+            int r = (rgb >> 16) & 0xFF;
+            int g = (rgb >> 8) & 0xFF;
+            int b = rgb & 0xFF;
+
+            glyphs[i] = glyphRamp.getGlyph(ASCIIArt.getBrightness(r, g, b, brightnessMapping));
+            if (colorMode != null) {
+                colors[i] = colorMode.getColor(rgb);
+            }
+        }
+        frame.setColorMode(colorMode);
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * GifPlayer.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GifPlayer plays every frame of an animated GIF at the delays stored in the file. Frames are decoded,
+ * composited onto the logical screen according to their disposal methods and converted on a producer
+ * thread, which runs ahead of playback by a bounded number of frames. The calling thread only waits for
+ * each frame's due time and writes it, so converting the next frame overlaps with writing the current one.
+ *
+ * @author Grant Randa
+ */
+public class GifPlayer {
+
+    /**
+     * The number of converted frames that the producer may hold ahead of playback.
+     */
+    public static final int DEFAULT_LOOKAHEAD = 2;
+
+    /**
+     * The delay used for frames whose stored delay is shorter than 20 ms, as browsers do, since such
+     * delays are usually meant as "as fast as possible" rather than taken literally.
+     */
+    public static final int DEFAULT_DELAY_MILLIS = 100;
+
+    private static final String IMAGE_METADATA_FORMAT = "javax_imageio_gif_image_1.0";
+    private static final String STREAM_METADATA_FORMAT = "javax_imageio_gif_stream_1.0";
+    private static final TimedFrame END = new TimedFrame(null, 0);
+
+    private final RenderOptions options;
+    private final OutputSink sink;
+    private final int lookahead;
+
+    /**
+     * Creates a GifPlayer with the default lookahead.
+     *
+     * @param options the options used to render each frame.
+     * @param sink    the sink that frames are written to.
+     */
+    public GifPlayer(RenderOptions options, OutputSink sink) {
+        this(options, sink, DEFAULT_LOOKAHEAD);
+    }
+
+    /**
+     * Creates a GifPlayer.
+     *
+     * @param options   the options used to render each frame.
+     * @param sink      the sink that frames are written to.
+     * @param lookahead the number of converted frames that may be held ahead of playback.
+     */
+    public GifPlayer(RenderOptions options, OutputSink sink, int lookahead) {
+        if (lookahead <= 0) {
+            throw new IllegalArgumentException("Lookahead must be positive");
+        }
+        this.options = options;
+        this.sink = sink;
+        this.lookahead = lookahead;
+    }
+
+    /**
+     * Plays an animated GIF once. The screen is cleared before the first frame, and each later frame
+     * only rewrites the cells that differ from the previous one, addressed by absolute cursor positions,
+     * so that it replaces the previous frame in place.
+     *
+     * @param file the GIF file.
+     * @return the statistics of the playback.
+     * @throws IOException if the file cannot be decoded or a frame cannot be written.
+     */
+    public Result play(File file) throws IOException {
+        BlockingQueue<TimedFrame> queue = new ArrayBlockingQueue<>(lookahead);
+        Producer producer = new Producer(file, queue);
+        Thread thread = new Thread(producer, "gif-producer");
+        thread.setDaemon(true);
+        thread.start();
+
+        FrameEmitter emitter = new FrameEmitter(sink);
+        int frames = 0;
+        int late = 0;
+        long initialBytes = sink.getBytesWritten();
+        long start = System.nanoTime();
+        long due = start;
+        try {
+            for (TimedFrame next = queue.take(); next != END; next = queue.take()) {
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                } else if (frames > 0) {
+                    late++;
+                } else {
+                    sink.write(AnsiEncoder.CLEAR_SCREEN, 0, AnsiEncoder.CLEAR_SCREEN.length);
+                }
+                emitter.emitChanges(next.frame);
+                sink.flush();
+                due = Math.max(due, System.nanoTime()) + TimeUnit.MILLISECONDS.toNanos(next.delayMillis);
+                frames++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            thread.interrupt();
+        }
+
+        if (producer.error != null) {
+            throw producer.error;
+        }
+        return new Result(frames, late, sink.getBytesWritten() - initialBytes, System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the delay of a GIF frame in milliseconds.
+     *
+     * @param centiseconds the delay stored in the frame's graphic control extension.
+     * @return the delay that the frame is shown for.
+     */
+    static int getDelayMillis(int centiseconds) {
+        return centiseconds < 2 ? DEFAULT_DELAY_MILLIS : centiseconds * 10;
+    }
+
+    private static IIOMetadataNode getChild(IIOMetadataNode root, String name) {
+        for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeName().equals(name)) {
+                return (IIOMetadataNode) child;
+            }
+        }
+        return null;
+    }
+
+    private static int getIntAttribute(IIOMetadataNode node, String name, int defaultValue) {
+        if (node == null || node.getAttribute(name).isEmpty()) {
+            return defaultValue;
+        }
+        return Integer.parseInt(node.getAttribute(name));
+    }
+
+    /**
+     * A converted frame and the time it is shown for.
+     */
+    private static class TimedFrame {
+
+        private final Frame frame;
+        private final int delayMillis;
+
+        TimedFrame(Frame frame, int delayMillis) {
+            this.frame = frame;
+            this.delayMillis = delayMillis;
+        }
+    }
+
+    /**
+     * Decodes, composites and converts every frame of a GIF, handing converted frames to playback.
+     */
+    private class Producer implements Runnable {
+
+        private final File file;
+        private final BlockingQueue<TimedFrame> queue;
+        private volatile IOException error;
+
+        Producer(File file, BlockingQueue<TimedFrame> queue) {
+            this.file = file;
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            try {
+                decode();
+            } catch (IOException e) {
+                error = e;
+            } catch (RuntimeException e) {
+                error = new IOException("Unable to decode " + file + ": " + e.getMessage(), e);
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                queue.put(END);
+            } catch (InterruptedException ignored) {
+                // Playback has stopped and no longer reads the queue.
+            }
+        }
+
+        private void decode() throws IOException, InterruptedException {
+            try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+                if (input == null) {
+                    throw new IOException("Unable to read " + file);
+                }
+                Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+                if (!readers.hasNext()) {
+                    throw new IOException("Unsupported image format: " + file);
+                }
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(input, false, false);
+                    play(reader);
+                } finally {
+                    reader.dispose();
+                }
+            }
+        }
+
+        private void play(ImageReader reader) throws IOException, InterruptedException {
+            BufferedImage canvas = createCanvas(reader);
+            Graphics2D graphics = canvas.createGraphics();
+            BufferedImage previous = null;
+
+            try {
+                for (int i = 0; ; i++) {
+                    BufferedImage image;
+                    try {
+                        image = reader.read(i);
+                    } catch (IndexOutOfBoundsException e) {
+                        break;
+                    }
+
+                    IIOMetadataNode descriptor = null;
+                    IIOMetadataNode control = null;
+                    IIOMetadata metadata = reader.getImageMetadata(i);
+                    if (metadata != null && IMAGE_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+                        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(IMAGE_METADATA_FORMAT);
+                        descriptor = getChild(root, "ImageDescriptor");
+                        control = getChild(root, "GraphicControlExtension");
+                    }
+                    int left = getIntAttribute(descriptor, "imageLeftPosition", 0);
+                    int top = getIntAttribute(descriptor, "imageTopPosition", 0);
+                    String disposal = control == null ? "none" : control.getAttribute("disposalMethod");
+
+                    if (disposal.equals("restoreToPrevious")) {
+                        previous = copy(canvas, previous);
+                    }
+                    graphics.drawImage(image, left, top, null);
+
+                    Frame frame = new Frame(options.getWidth(), options.getHeight());
+                    ASCIIArt.convert(canvas, options, frame);
+                    queue.put(new TimedFrame(frame, getDelayMillis(getIntAttribute(control, "delayTime", 0))));
+
+                    if (disposal.equals("restoreToBackgroundColor")) {
+                        graphics.setComposite(AlphaComposite.Clear);
+                        graphics.fillRect(left, top, image.getWidth(), image.getHeight());
+                        graphics.setComposite(AlphaComposite.SrcOver);
+                    } else if (disposal.equals("restoreToPrevious")) {
+                        copy(previous, canvas);
+                    }
+                }
+            } finally {
+                graphics.dispose();
+            }
+        }
+
+        private BufferedImage createCanvas(ImageReader reader) throws IOException {
+            int width = 0;
+            int height = 0;
+            IIOMetadata metadata = reader.getStreamMetadata();
+            if (metadata != null && STREAM_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+                IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(STREAM_METADATA_FORMAT);
+                IIOMetadataNode screen = getChild(root, "LogicalScreenDescriptor");
+                width = getIntAttribute(screen, "logicalScreenWidth", 0);
+                height = getIntAttribute(screen, "logicalScreenHeight", 0);
+            }
+            if (width <= 0 || height <= 0) {
+                width = reader.getWidth(0);
+                height = reader.getHeight(0);
+            }
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+
+        private BufferedImage copy(BufferedImage source, BufferedImage destination) {
+            if (destination == null) {
+                destination = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            }
+            destination.setData(source.getRaster());
+            return destination;
+        }
+    }
+
+    /**
+     * The statistics of a playback.
+     */
+    public static class Result {
+
+        private final int frames;
+        private final int late;
+        private final long bytes;
+        private final long elapsedNanos;
+
+        Result(int frames, int late, long bytes, long elapsedNanos) {
+            this.frames = frames;
+            this.late = late;
+            this.bytes = bytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getFrames() {
+            return frames;
+        }
+
+        /**
+         * Returns the number of frames that were not ready to be written by their due time.
+         *
+         * @return the number of late frames.
+         */
+        public int getLate() {
+            return late;
+        }
+
+        public long getBytesPerFrame() {
+            return frames == 0 ? 0 : bytes / frames;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1e9;
+            return String.format("%d frames played in %.3f s: %.2f frames/sec, %d late, %d bytes/frame",
+                    frames, seconds, frames / seconds, late, getBytesPerFrame());
+        }
+    }
+}
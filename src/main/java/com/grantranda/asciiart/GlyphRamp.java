@@ -0,0 +1,96 @@
+/*
+ * GlyphRamp.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import static com.grantranda.asciiart.ASCIIArt.BRIGHTNESS_SCALE;
+
+/**
+ * GlyphRamp maps brightness levels to ASCII characters using a table precomputed for every
+ * brightness level from 0 to 255. Inverting the ramp reverses the table, so inverted brightness
+ * does not need a separate pass over the image.
+ *
+ * @author Grant Randa
+ */
+public class GlyphRamp {
+
+    public static final GlyphRamp DEFAULT = new GlyphRamp(BRIGHTNESS_SCALE, false);
+    public static final GlyphRamp DEFAULT_INVERTED = new GlyphRamp(BRIGHTNESS_SCALE, true);
+
+    private final String ramp;
+    private final boolean inverted;
+    private final char[] glyphs = new char[256];
+
+    /**
+     * Creates a GlyphRamp from the given characters.
+     *
+     * @param ramp a string of printable ASCII characters ordered by how much screen space they fill.
+     */
+    public GlyphRamp(String ramp) {
+        this(ramp, false);
+    }
+
+    /**
+     * Creates a GlyphRamp from the given characters.
+     *
+     * @param ramp     a string of printable ASCII characters ordered by how much screen space they fill.
+     * @param inverted if true, brightness levels are inverted before being mapped to characters.
+     */
+    public GlyphRamp(String ramp, boolean inverted) {
+        if (ramp == null || ramp.isEmpty()) {
+            throw new IllegalArgumentException("Glyph ramp must contain at least one character");
+        }
+        for (int i = 0; i < ramp.length(); i++) {
+            char c = ramp.charAt(i);
+            if (c < ' ' || c > '~') {
+                throw new IllegalArgumentException("Glyph ramp may only contain printable ASCII characters");
+            }
+        }
+        this.ramp = ramp;
+        this.inverted = inverted;
+
+        char[] scale = ramp.toCharArray();
+        for (int brightness = 0; brightness < glyphs.length; brightness++) {
+            int level = inverted ? 255 - brightness : brightness;
+            int scaleIndex = (int) (scale.length * (level / 255.0));
+            if (scaleIndex >= scale.length) {
+                scaleIndex = scale.length - 1;
+            }
+            glyphs[brightness] = scale[scaleIndex];
+        }
+    }
+
+    /**
+     * Returns the character that represents a brightness level.
+     *
+     * @param brightness a brightness level between 0 and 255.
+     * @return the character for the brightness level.
+     */
+    public char getGlyph(int brightness) {
+        return glyphs[brightness];
+    }
+
+    /**
+     * Returns a GlyphRamp with the same characters and the opposite inversion.
+     *
+     * @return the inverted ramp.
+     */
+    public GlyphRamp inverted() {
+        if (this == DEFAULT) {
+            return DEFAULT_INVERTED;
+        } else if (this == DEFAULT_INVERTED) {
+            return DEFAULT;
+        }
+        return new GlyphRamp(ramp, !inverted);
+    }
+
+    public String getRamp() {
+        return ramp;
+    }
+
+    public boolean isInverted() {
+        return inverted;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * ImageCache.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ImageCache holds decoded images so that rendering the same file again, at another size or with
+ * other options, skips decoding it. Images are decoded by {@link ImageDecoder} at the lowest
+ * resolution that covers the render, so a file may be cached at several subsampling factors, each
+ * returned for exactly the renders that the decoder would have decoded it for. Rendering from the
+ * cache therefore produces the same output as decoding the file each time.
+ *
+ * <p>Files are identified by their real path, and an entry is only used while the size and
+ * modification time of the file match those it was decoded from, so a file that changes is decoded
+ * again. Files are evicted in least recently used order once the total size of their decoded pixels
+ * exceeds the weight of the cache.</p>
+ *
+ * <p>The cache is used by {@link RenderServer}, which renders the same local images for many requests.
+ * The command line modes decode an image once per run, or once per version of a watched file, so they
+ * do not use it.</p>
+ *
+ * <p>An ImageCache is safe to use from multiple threads. Cached images are shared and must not be
+ * modified.</p>
+ *
+ * @author Grant Randa
+ */
+public class ImageCache {
+
+    /**
+     * The default total size of the decoded pixels held by the cache.
+     */
+    public static final long DEFAULT_MAX_BYTES = 256L << 20;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an ImageCache with the default weight.
+     */
+    public ImageCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates an ImageCache.
+     *
+     * @param maxBytes the total size of the decoded pixels held by the cache.
+     */
+    public ImageCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns an image decoded at the lowest resolution that still covers a render of the given size,
+     * as {@link ImageDecoder#decode(File, int, int)} does, decoding it only if it is not cached.
+     *
+     * @param file   the image file.
+     * @param width  the width of the render.
+     * @param height the height of the render.
+     * @return the decoded image, which must not be modified.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public BufferedImage get(File file, int width, int height) throws IOException {
+        Path path = file.toPath().toRealPath();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long fileSize = attributes.size();
+        long modifiedMillis = attributes.lastModifiedTime().toMillis();
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(path);
+            if (entry != null && !entry.isVersion(fileSize, modifiedMillis)) {
+                entries.remove(path);
+                bytes -= entry.bytes;
+                entry = null;
+            }
+        }
+
+        Dimension size = entry != null ? entry.size : ImageDecoder.getSize(file);
+        int subsampling = ImageDecoder.getSubsampling(size.width, size.height, width, height);
+        if (entry != null) {
+            synchronized (this) {
+                BufferedImage image = entry.levels.get(subsampling);
+                if (image != null) {
+                    hits++;
+                    return image;
+                }
+            }
+        }
+
+        BufferedImage image = ImageDecoder.decode(file, width, height);
+        synchronized (this) {
+            misses++;
+            entry = entries.get(path);
+            if (entry == null || !entry.isVersion(fileSize, modifiedMillis)) {
+                if (entry != null) {
+                    bytes -= entry.bytes;
+                }
+                entry = new Entry(size, fileSize, modifiedMillis);
+                entries.put(path, entry);
+            }
+            BufferedImage previous = entry.levels.put(subsampling, image);
+            long weight = getWeight(image);
+            entry.bytes += weight;
+            bytes += weight;
+            if (previous != null) {
+                entry.bytes -= getWeight(previous);
+                bytes -= getWeight(previous);
+            }
+            evict();
+        }
+        return image;
+    }
+
+    /**
+     * Removes every cached image.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Returns the number of requests answered without decoding.
+     *
+     * @return the number of hits.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requests that decoded the file.
+     *
+     * @return the number of misses.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of files evicted to stay within the weight of the cache.
+     *
+     * @return the number of evictions.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d hits, %d misses, %d evictions, %d files (%d bytes)",
+                hits, misses, evictions, entries.size(), bytes);
+    }
+
+    /**
+     * Returns the number of bytes used by the pixels of an image.
+     */
+    static long getWeight(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    private void evict() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * The decoded levels of one version of a file, identified by its size and modification time.
+     */
+    private static class Entry {
+
+        private final Dimension size;
+        private final long fileSize;
+        private final long modifiedMillis;
+        private final Map<Integer, BufferedImage> levels = new HashMap<>();
+        private long bytes;
+
+        Entry(Dimension size, long fileSize, long modifiedMillis) {
+            this.size = size;
+            this.fileSize = fileSize;
+            this.modifiedMillis = modifiedMillis;
+        }
+
+        boolean isVersion(long fileSize, long modifiedMillis) {
+            return this.fileSize == fileSize && this.modifiedMillis == modifiedMillis;
+        }
+    }
+}
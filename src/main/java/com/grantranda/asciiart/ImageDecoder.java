@@ -0,0 +1,173 @@
+/*
+ * ImageDecoder.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * ImageDecoder reads images from files or memory, decoding only as many pixels as a render of a given size
+ * needs. The image header is read first, and if the source is much larger than the render, the
+ * reader is asked to skip rows and columns while decoding.
+ *
+ * @author Grant Randa
+ */
+public class ImageDecoder {
+
+    /**
+     * The minimum number of decoded pixels kept for each rendered pixel along each axis. Keeping more
+     * than one lets the resamplers average neighboring pixels instead of relying on the decoder's
+     * point sampling.
+     */
+    public static final int OVERSAMPLING = 2;
+
+    private ImageDecoder() {
+
+    }
+
+    /**
+     * Decodes an entire image at full resolution.
+     *
+     * @param file the image file.
+     * @return the decoded image.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public static BufferedImage decode(File file) throws IOException {
+        return decode(file, 0, 0, null);
+    }
+
+    /**
+     * Decodes an image at the lowest resolution that still covers a render of the given size.
+     *
+     * @param file   the image file.
+     * @param width  the width of the render.
+     * @param height the height of the render.
+     * @return the decoded image, which may be smaller than the source image.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public static BufferedImage decode(File file, int width, int height) throws IOException {
+        return decode(file, width, height, null);
+    }
+
+    /**
+     * Decodes a region of an image at the lowest resolution that still covers a render of the given size.
+     *
+     * @param file   the image file.
+     * @param width  the width of the render, or 0 to decode at full resolution.
+     * @param height the height of the render, or 0 to decode at full resolution.
+     * @param region the region of the source image to decode, or null to decode the whole image.
+     * @return the decoded image, which may be smaller than the source region.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public static BufferedImage decode(File file, int width, int height, Rectangle region) throws IOException {
+        if (!file.canRead()) {
+            throw new IOException("Unable to read " + file);
+        }
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            return decode(input, file.toString(), width, height, region);
+        }
+    }
+
+    /**
+     * Reads the dimensions of an image from its header without decoding its pixels.
+     *
+     * @param file the image file.
+     * @return the width and height of the image.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public static Dimension getSize(File file) throws IOException {
+        if (!file.canRead()) {
+            throw new IOException("Unable to read " + file);
+        }
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            ImageReader reader = getReader(input, file.toString());
+            try {
+                reader.setInput(input, true, true);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Decodes an image held in memory at the lowest resolution that still covers a render of the given size.
+     *
+     * @param data   the encoded image.
+     * @param width  the width of the render, or 0 to decode at full resolution.
+     * @param height the height of the render, or 0 to decode at full resolution.
+     * @return the decoded image, which may be smaller than the source image.
+     * @throws IOException if the data is not a supported image.
+     */
+    public static BufferedImage decode(byte[] data, int width, int height) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            return decode(input, "image data", width, height, null);
+        }
+    }
+
+    private static BufferedImage decode(ImageInputStream input, String name, int width, int height, Rectangle region)
+            throws IOException {
+        ImageReader reader = getReader(input, name);
+        try {
+            reader.setInput(input, true, true);
+            ImageReadParam param = reader.getDefaultReadParam();
+            Rectangle source = new Rectangle(0, 0, reader.getWidth(0), reader.getHeight(0));
+
+            if (region != null) {
+                source = source.intersection(region);
+                if (source.isEmpty()) {
+                    throw new IOException("Region " + region + " lies outside of " + name);
+                }
+                param.setSourceRegion(source);
+            }
+            if (width > 0 && height > 0) {
+                int subsampling = getSubsampling(source.width, source.height, width, height);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+            }
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private static ImageReader getReader(ImageInputStream input, String name) throws IOException {
+        if (input == null) {
+            throw new IOException("Unable to read " + name);
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            throw new IOException("Unsupported image format: " + name);
+        }
+        return readers.next();
+    }
+
+    /**
+     * Returns the largest factor by which a source can be subsampled while keeping at least
+     * {@link #OVERSAMPLING} decoded pixels for every rendered pixel along both axes.
+     *
+     * @param sourceWidth  the source width.
+     * @param sourceHeight the source height.
+     * @param width        the width of the render.
+     * @param height       the height of the render.
+     * @return the subsampling factor, which is at least 1.
+     */
+    public static int getSubsampling(int sourceWidth, int sourceHeight, int width, int height) {
+        int horizontal = sourceWidth / (width * OVERSAMPLING);
+        int vertical = sourceHeight / (height * OVERSAMPLING);
+        return Math.max(1, Math.min(horizontal, vertical));
+    }
+}
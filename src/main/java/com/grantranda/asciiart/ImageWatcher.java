@@ -0,0 +1,222 @@
+/*
+ * ImageWatcher.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImageWatcher follows an image file that is rewritten over time, such as a status image that another
+ * program updates, and re-renders it whenever it changes. Changes are detected with a
+ * {@link WatchService} on the file's directory, and a burst of writes is treated as a single change once
+ * the file has been quiet for the debounce time. The file is only decoded again if its size or
+ * modification time changed, and only the cells that differ from the previous frame are written, using
+ * the {@link DeltaEncoder} of a {@link RenderContext} that is reused for every frame.
+ *
+ * <p>A file that cannot be decoded, such as one that is still being written, is skipped and the
+ * previous frame stays on screen until the next change.</p>
+ *
+ * @author Grant Randa
+ */
+public class ImageWatcher {
+
+    /**
+     * The time the file must go without changes before it is rendered.
+     */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 100;
+
+    private final RenderOptions options;
+    private final OutputSink sink;
+    private final long debounceMillis;
+    private final RenderContext context;
+    private long renderedSize = -1;
+    private long renderedModifiedMillis = -1;
+    private int rendered;
+    private int unchanged;
+    private int failed;
+
+    /**
+     * Creates an ImageWatcher with the default debounce time.
+     *
+     * @param options the options used to render the image.
+     * @param sink    the sink that frames are written to.
+     */
+    public ImageWatcher(RenderOptions options, OutputSink sink) {
+        this(options, sink, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * Creates an ImageWatcher.
+     *
+     * @param options        the options used to render the image.
+     * @param sink           the sink that frames are written to.
+     * @param debounceMillis the time the file must go without changes before it is rendered.
+     */
+    public ImageWatcher(RenderOptions options, OutputSink sink, long debounceMillis) {
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("Debounce time must not be negative");
+        }
+        this.options = options;
+        this.sink = sink;
+        this.debounceMillis = debounceMillis;
+        this.context = new RenderContext(sink);
+    }
+
+    /**
+     * Renders a file, then re-renders it after every change until the thread is interrupted or the
+     * directory of the file can no longer be watched.
+     *
+     * @param file the image file.
+     * @return the statistics of the watch.
+     * @throws IOException if the directory cannot be watched or a frame cannot be written.
+     */
+    public Result watch(Path file) throws IOException {
+        Path path = file.toAbsolutePath();
+        Path directory = path.getParent();
+        long initialBytes = sink.getBytesWritten();
+
+        try (WatchService service = path.getFileSystem().newWatchService()) {
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            render(path);
+
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = isChanged(key, path);
+                if (!key.reset()) {
+                    break;
+                }
+                if (!changed) {
+                    continue;
+                }
+
+                long quietNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+                long deadline = System.nanoTime() + quietNanos;
+                boolean valid = true;
+                for (long wait = quietNanos; wait > 0; wait = deadline - System.nanoTime()) {
+                    key = service.poll(wait, TimeUnit.NANOSECONDS);
+                    if (key == null) {
+                        break;
+                    }
+                    if (isChanged(key, path)) {
+                        deadline = System.nanoTime() + quietNanos;
+                    }
+                    valid = key.reset();
+                    if (!valid) {
+                        break;
+                    }
+                }
+                render(path);
+                if (!valid) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new Result(rendered, unchanged, failed, sink.getBytesWritten() - initialBytes);
+    }
+
+    /**
+     * Returns whether the events of a key include a change to the file, consuming the events.
+     */
+    private static boolean isChanged(WatchKey key, Path path) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || path.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void render(Path path) throws IOException {
+        BufferedImage image;
+        long size;
+        long modifiedMillis;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            size = attributes.size();
+            modifiedMillis = attributes.lastModifiedTime().toMillis();
+            if (size == renderedSize && modifiedMillis == renderedModifiedMillis) {
+                unchanged++;
+                return;
+            }
+            image = ImageDecoder.decode(path.toFile(), options.getWidth(), options.getHeight());
+        } catch (IOException | RuntimeException e) {
+            failed++;
+            return;
+        }
+
+        Frame frame = ASCIIArt.convert(image, options, context);
+        if (rendered == 0) {
+            sink.write(AnsiEncoder.CLEAR_SCREEN, 0, AnsiEncoder.CLEAR_SCREEN.length);
+        }
+        context.getEmitter().emitChanges(frame);
+        sink.flush();
+        renderedSize = size;
+        renderedModifiedMillis = modifiedMillis;
+        rendered++;
+    }
+
+    /**
+     * The statistics of a watch.
+     */
+    public static class Result {
+
+        private final int rendered;
+        private final int unchanged;
+        private final int failed;
+        private final long bytes;
+
+        Result(int rendered, int unchanged, int failed, long bytes) {
+            this.rendered = rendered;
+            this.unchanged = unchanged;
+            this.failed = failed;
+            this.bytes = bytes;
+        }
+
+        public int getRendered() {
+            return rendered;
+        }
+
+        /**
+         * Returns the number of changes after which the file had the same size and modification time
+         * as the last rendered version, so it was not decoded again.
+         *
+         * @return the number of unchanged versions.
+         */
+        public int getUnchanged() {
+            return unchanged;
+        }
+
+        /**
+         * Returns the number of versions of the file that could not be read or decoded.
+         *
+         * @return the number of failed versions.
+         */
+        public int getFailed() {
+            return failed;
+        }
+
+        public long getBytesPerFrame() {
+            return rendered == 0 ? 0 : bytes / rendered;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d frames rendered, %d unchanged, %d failed, %d bytes/frame",
+                    rendered, unchanged, failed, getBytesPerFrame());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * LanczosResampler.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * LanczosResampler resizes images with a separable Lanczos filter, first horizontally and then
+ * vertically. When downscaling, the filter is widened so that every source pixel contributes to
+ * the result.
+ *
+ * @author Grant Randa
+ */
+public class LanczosResampler implements Resampler {
+
+    public static final int DEFAULT_LOBES = 3;
+
+    private final int lobes;
+
+    public LanczosResampler() {
+        this(DEFAULT_LOBES);
+    }
+
+    /**
+     * Creates a LanczosResampler with the given filter size.
+     *
+     * @param lobes the number of lobes on each side of the filter's center.
+     */
+    public LanczosResampler(int lobes) {
+        if (lobes <= 0) {
+            throw new IllegalArgumentException("Lanczos filter must have at least one lobe");
+        }
+        this.lobes = lobes;
+    }
+
+    public int getLobes() {
+        return lobes;
+    }
+
+    @Override
+    public int[] resample(BufferedImage image, int width, int height, int[] destination) {
+        return resample(image, width, height, destination, null);
+    }
+
+    @Override
+    public int[] resample(BufferedImage image, int width, int height, int[] destination, RenderContext context) {
+        int sourceWidth = image.getWidth();
+        int sourceHeight = image.getHeight();
+        int[] source = context != null ? context.getSourcePixels(image) : ASCIIArt.getPixels(image);
+
+        Filters filters = RenderContext.getScratch(context, Filters.class, Filters::new);
+        filters.resize(this, sourceWidth, sourceHeight, width, height);
+        Weights columnWeights = filters.columnWeights;
+        Weights rowWeights = filters.rowWeights;
+
+        int[] horizontal = filters.horizontal;
+        for (int y = 0; y < sourceHeight; y++) {
+            for (int x = 0; x < width; x++) {
+                horizontal[y * width + x] = columnWeights.apply(source, y * sourceWidth, 1, x);
+            }
+        }
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                destination[y * width + x] = rowWeights.apply(horizontal, x, width, y);
+            }
+        }
+        return destination;
+    }
+
+    private double getWeight(double distance) {
+        if (distance == 0) {
+            return 1;
+        } else if (Math.abs(distance) >= lobes) {
+            return 0;
+        }
+        double piDistance = Math.PI * distance;
+        return lobes * Math.sin(piDistance) * Math.sin(piDistance / lobes) / (piDistance * piDistance);
+    }
+
+    /**
+     * The filter weights along both axes and the horizontally filtered image, which are only replaced
+     * when the number of lobes or the source or destination dimensions change.
+     */
+    static class Filters {
+
+        private Weights columnWeights;
+        private Weights rowWeights;
+        private int[] horizontal;
+        private int lobes = -1;
+        private int sourceWidth = -1;
+        private int sourceHeight = -1;
+        private int width = -1;
+        private int height = -1;
+
+        void resize(LanczosResampler resampler, int sourceWidth, int sourceHeight, int width, int height) {
+            if (resampler.lobes != lobes || sourceWidth != this.sourceWidth || width != this.width) {
+                columnWeights = resampler.new Weights(sourceWidth, width);
+            }
+            if (resampler.lobes != lobes || sourceHeight != this.sourceHeight || height != this.height) {
+                rowWeights = resampler.new Weights(sourceHeight, height);
+            }
+            if (horizontal == null || horizontal.length != width * sourceHeight) {
+                horizontal = new int[width * sourceHeight];
+            }
+            this.lobes = resampler.lobes;
+            this.sourceWidth = sourceWidth;
+            this.sourceHeight = sourceHeight;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    /**
+     * The normalized filter weights and source indices that contribute to each destination index
+     * along one axis.
+     */
+    private class Weights {
+
+        private final int[][] indices;
+        private final float[][] weights;
+
+        Weights(int sourceLength, int destinationLength) {
+            double scale = (double) sourceLength / destinationLength;
+            double filterScale = Math.max(scale, 1);
+            double support = lobes * filterScale;
+            indices = new int[destinationLength][];
+            weights = new float[destinationLength][];
+
+            for (int i = 0; i < destinationLength; i++) {
+                double center = (i + 0.5) * scale - 0.5;
+                int first = (int) Math.ceil(center - support);
+                int last = (int) Math.floor(center + support);
+                int count = last - first + 1;
+                indices[i] = new int[count];
+                weights[i] = new float[count];
+
+                double total = 0;
+                for (int j = 0; j < count; j++) {
+                    double weight = getWeight((first + j - center) / filterScale);
+                    indices[i][j] = Math.max(0, Math.min(first + j, sourceLength - 1));
+                    weights[i][j] = (float) weight;
+                    total += weight;
+                }
+                for (int j = 0; j < count; j++) {
+                    weights[i][j] /= total;
+                }
+            }
+        }
+
+        int apply(int[] pixels, int offset, int stride, int destinationIndex) {
+            int[] sourceIndices = indices[destinationIndex];
+            float[] sourceWeights = weights[destinationIndex];
+            float a = 0;
+            float r = 0;
+            float g = 0;
+            float b = 0;
+
+            for (int j = 0; j < sourceIndices.length; j++) {
+                int argb = pixels[offset + sourceIndices[j] * stride];
+                float weight = sourceWeights[j];
+                a += (argb >>> 24) * weight;
+                r += ((argb >> 16) & 0xFF) * weight;
+                g += ((argb >> 8) & 0xFF) * weight;
+                b += (argb & 0xFF) * weight;
+            }
+            return clamp(a) << 24 | clamp(r) << 16 | clamp(g) << 8 | clamp(b);
+        }
+
+        private int clamp(float value) {
+            return Math.max(0, Math.min(255, Math.round(value)));
+        }
+    }
+}
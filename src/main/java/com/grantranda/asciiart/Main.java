@@ -6,6 +6,10 @@
 package com.grantranda.asciiart;
 
 import com.grantranda.asciiart.ASCIIArt.Brightness;
+import com.grantranda.asciiart.ASCIIArt.ColorMode;
+import com.grantranda.asciiart.ASCIIArt.Pipeline;
+import com.grantranda.asciiart.ASCIIArt.Resampling;
+import com.grantranda.asciiart.RenderMetrics.Stage;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -13,8 +17,20 @@ import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
+import org.fusesource.jansi.AnsiConsole;
 
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -28,19 +44,27 @@ public class Main {
     public static final int DEFAULT_HEIGHT = 261;
     public static final Brightness DEFAULT_BRIGHTNESS = Brightness.AVERAGE;
     public static final boolean DEFAULT_INVERTED_BRIGHTNESS = false;
+    public static final String DEFAULT_RAMP = ASCIIArt.BRIGHTNESS_SCALE;
     public static final boolean DEFAULT_COLORED = true;
+    public static final ColorMode DEFAULT_COLOR_MODE = ColorMode.BASIC;
+    public static final Pipeline DEFAULT_PIPELINE = Pipeline.FUSED;
+    public static final int DEFAULT_THREADS = 1;
+    public static final Resampling DEFAULT_RESAMPLING = Resampling.BOX;
+    public static final int DEFAULT_WORKERS = Runtime.getRuntime().availableProcessors();
+    public static final long DEFAULT_CACHE_BYTES = RenderCache.DEFAULT_MAX_MEMORY_BYTES;
+    public static final long DEFAULT_IMAGE_CACHE_BYTES = ImageCache.DEFAULT_MAX_BYTES;
 
     /**
-     * Processes command-line arguments and calls {@link ASCIIArt#render(String, int, int, Brightness, boolean, boolean)}.
+     * Processes command-line arguments and calls {@link ASCIIArt#render(String, RenderOptions)}.
      *
      * @param args command-line arguments.
      */
     public static void main(String[] args) {
         Options options = new Options();
         options.addOption(Option.builder("i")
-                .desc("[REQUIRED] the pathname of an image")
+                .desc("[REQUIRED unless --batch, --stream or --serve is set] the pathname of an image")
                 .longOpt("image")
-                .required(true)
+                .required(false)
                 .hasArg()
                 .build()
         );
@@ -82,13 +106,171 @@ public class Main {
                 .required(false)
                 .build()
         );
+        options.addOption(Option.builder("cm")
+                .desc("the colors used for colored output: basic (default), xterm256 or truecolor. With "
+                        + "--throughput, all measures each color mode in turn")
+                .longOpt("colorMode")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("r")
+                .desc("a custom brightness scale of ASCII characters ordered by how much screen space they fill")
+                .longOpt("ramp")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("p")
+                .desc("the conversion pipeline: legacy, packed, fused (default) or cell, which samples character cells "
+                        + "straight from the source image and ignores --resampler")
+                .longOpt("pipeline")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("rs")
+                .desc("the resampler used to resize the image: box (default), bilinear, lanczos or smooth")
+                .longOpt("resampler")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("th")
+                .desc("the number of threads used by the fused pipeline")
+                .longOpt("threads")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("b")
+                .desc("convert every image in a directory, or every file matching a glob, to a .ans or .txt file")
+                .longOpt("batch")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("o")
+                .desc("write the image to a file instead of the console, or with --batch, the directory that "
+                        + "converted images are written to, in the same subdirectories, instead of next to each image")
+                .longOpt("output")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("wk")
+                .desc("the number of images that --batch converts, or --serve renders, concurrently")
+                .longOpt("workers")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("mif")
+                .desc("the maximum number of decoded images that --batch holds in memory at once")
+                .longOpt("maxInFlight")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("as")
+                .desc("report how many bytes the colored output saves by only writing color changes")
+                .longOpt("ansiStats")
+                .required(false)
+                .build()
+        );
+        options.addOption(Option.builder("a")
+                .desc("play every frame of an animated GIF at the delays stored in the file")
+                .longOpt("animate")
+                .required(false)
+                .build()
+        );
+        options.addOption(Option.builder("wt")
+                .desc("keep rendering the image whenever its file changes, only rewriting the characters that changed")
+                .longOpt("watch")
+                .required(false)
+                .build()
+        );
+        options.addOption(Option.builder("s")
+                .desc("render raw rgb24 video frames of the given size, such as 1280x720, read from standard input")
+                .longOpt("stream")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("fr")
+                .desc("the frame rate that --stream writes frames at, dropping frames that are not ready in time")
+                .longOpt("frameRate")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("sv")
+                .desc("run an HTTP server on the given port that renders images uploaded to, or named by the path "
+                        + "parameter of, /render, using the other options as defaults")
+                .longOpt("serve")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("rt")
+                .desc("the directory that --serve may read images named by a path from")
+                .longOpt("root")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("cs")
+                .desc("the megabytes of rendered output that --serve caches in memory, or 0 to disable the cache")
+                .longOpt("cacheSize")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("cd")
+                .desc("a directory that --serve also caches rendered output in, which is kept between runs")
+                .longOpt("cacheDirectory")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("ic")
+                .desc("with --serve, the megabytes of decoded images kept for local paths, or 0 to disable the cache. "
+                        + "Other modes decode each image once and do not use this cache")
+                .longOpt("imageCacheSize")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("sz")
+                .desc("render the image at each of a comma-separated list of sizes, such as 80x45,160x90, resampling "
+                        + "each from a pyramid of the image that is built once")
+                .longOpt("sizes")
+                .required(false)
+                .hasArg()
+                .build()
+        );
+        options.addOption(Option.builder("pr")
+                .desc("report the time, allocations and pixel count of each stage of the render")
+                .longOpt("profile")
+                .required(false)
+                .build()
+        );
+        options.addOption(Option.builder("t")
+                .desc("render the given number of frames without printing them and report the throughput")
+                .longOpt("throughput")
+                .required(false)
+                .hasArg()
+                .build()
+        );
 
         HelpFormatter formatter = new HelpFormatter();
         CommandLineParser parser = new DefaultParser();
         try (Scanner in = new Scanner(System.in)) {
             CommandLine line = parser.parse(options, args);
+            // Console sinks write to System.out, so it must be wrapped before any of them are created
+            AnsiConsole.systemInstall();
 
-            if (line.hasOption("i")) {
+            if (line.hasOption("i") || line.hasOption("b") || line.hasOption("s") || line.hasOption("sv")) {
                 String pathname = line.getOptionValue("i");
                 int width = DEFAULT_WIDTH;
                 if (line.hasOption("w")) {
@@ -111,14 +293,209 @@ public class Main {
                 if (line.hasOption("ib")) {
                     invertedBrightness = true;
                 }
+                String ramp = DEFAULT_RAMP;
+                if (line.hasOption("r")) {
+                    ramp = line.getOptionValue("r");
+                }
+                GlyphRamp glyphRamp = new GlyphRamp(ramp, invertedBrightness);
                 boolean colored = DEFAULT_COLORED;
                 if (line.hasOption("mc")) {
                     colored = false;
                 }
+                boolean allColorModes = line.hasOption("t") && "all".equalsIgnoreCase(line.getOptionValue("cm"));
+                ColorMode colorMode = DEFAULT_COLOR_MODE;
+                if (line.hasOption("cm") && !allColorModes) {
+                    colorMode = ColorMode.valueOf(line.getOptionValue("cm").toUpperCase());
+                }
+
+                Pipeline pipeline = DEFAULT_PIPELINE;
+                if (line.hasOption("p")) {
+                    pipeline = Pipeline.valueOf(line.getOptionValue("p").toUpperCase());
+                }
+                int threads = DEFAULT_THREADS;
+                if (line.hasOption("th")) {
+                    threads = Integer.parseInt(line.getOptionValue("th"));
+                }
+                Resampling resampling = DEFAULT_RESAMPLING;
+                if (line.hasOption("rs")) {
+                    resampling = Resampling.valueOf(line.getOptionValue("rs").toUpperCase());
+                }
+                RenderOptions renderOptions = new RenderOptions()
+                        .setWidth(width)
+                        .setHeight(height)
+                        .setBrightnessMapping(brightnessMapping)
+                        .setGlyphRamp(glyphRamp)
+                        .setColored(colored)
+                        .setColorMode(colorMode)
+                        .setPipeline(pipeline)
+                        .setThreads(threads)
+                        .setResampler(resampling.getResampler());
+
+                if (line.hasOption("s")) {
+                    Dimension size = parseSize(line.getOptionValue("s"));
+                    double frameRate = 0;
+                    if (line.hasOption("fr")) {
+                        frameRate = Double.parseDouble(line.getOptionValue("fr"));
+                    }
+                    VideoStream stream = new VideoStream(renderOptions, size.width, size.height, new ConsoleSink());
+                    try (FileChannel input = new FileInputStream(FileDescriptor.in).getChannel()) {
+                        System.out.println(stream.play(input, frameRate));
+                    } catch (IOException e) {
+                        System.out.println("Unable to play stream: " + e.getMessage());
+                        System.exit(1);
+                    }
+                    return;
+                }
+
+                if (line.hasOption("sv")) {
+                    int workers = DEFAULT_WORKERS;
+                    if (line.hasOption("wk")) {
+                        workers = Integer.parseInt(line.getOptionValue("wk"));
+                    }
+                    Path root = null;
+                    if (line.hasOption("rt")) {
+                        root = Paths.get(line.getOptionValue("rt"));
+                    }
+                    long cacheBytes = DEFAULT_CACHE_BYTES;
+                    if (line.hasOption("cs")) {
+                        cacheBytes = Long.parseLong(line.getOptionValue("cs")) << 20;
+                    }
+                    RenderCache cache = null;
+                    if (cacheBytes > 0 || line.hasOption("cd")) {
+                        cache = new RenderCache(cacheBytes,
+                                line.hasOption("cd") ? Paths.get(line.getOptionValue("cd")) : null);
+                    }
+                    long imageCacheBytes = DEFAULT_IMAGE_CACHE_BYTES;
+                    if (line.hasOption("ic")) {
+                        imageCacheBytes = Long.parseLong(line.getOptionValue("ic")) << 20;
+                    }
+                    ImageCache imageCache = imageCacheBytes > 0 ? new ImageCache(imageCacheBytes) : null;
+                    InetSocketAddress address = new InetSocketAddress(Integer.parseInt(line.getOptionValue("sv")));
+                    RenderServer server;
+                    try {
+                        server = new RenderServer(address, renderOptions, root, workers, cache, imageCache);
+                    } catch (IOException e) {
+                        System.out.println("Unable to start server on port " + address.getPort() + ": " + e);
+                        System.exit(1);
+                        return;
+                    }
+                    Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1)));
+                    server.start();
+                    System.out.println("Listening on port " + server.getAddress().getPort());
+                    return;
+                }
 
-                System.out.println();
-                ASCIIArt.render(pathname, width, height, brightnessMapping, invertedBrightness, colored);
-                in.nextLine();
+                if (line.hasOption("b")) {
+                    int workers = DEFAULT_WORKERS;
+                    if (line.hasOption("wk")) {
+                        workers = Integer.parseInt(line.getOptionValue("wk"));
+                    }
+                    int maxInFlight = workers;
+                    if (line.hasOption("mif")) {
+                        maxInFlight = Integer.parseInt(line.getOptionValue("mif"));
+                    }
+                    Path outputDirectory = null;
+                    if (line.hasOption("o")) {
+                        outputDirectory = Paths.get(line.getOptionValue("o"));
+                    }
+                    List<Path> images = BatchConverter.findImages(line.getOptionValue("b"));
+                    BatchConverter converter = new BatchConverter(renderOptions, workers, maxInFlight);
+                    try {
+                        System.out.println(converter.convert(images, outputDirectory));
+                    } catch (IOException e) {
+                        System.out.println("Unable to convert images: " + e.getMessage());
+                        System.exit(1);
+                    }
+                    return;
+                }
+
+                if (line.hasOption("as")) {
+                    BufferedImage image = ImageDecoder.decode(new File(pathname), width, height);
+                    FrameEmitter emitter = new FrameEmitter(new NullSink());
+                    ASCIIArt.render(image, renderOptions.setColored(true), emitter);
+                    System.out.println(emitter.getAnsiEncoder().getStats());
+                    return;
+                }
+
+                if (line.hasOption("t")) {
+                    int frames = Integer.parseInt(line.getOptionValue("t"));
+                    BufferedImage image = ImageDecoder.decode(new File(pathname), width, height);
+                    try (OutputSink sink = line.hasOption("o")
+                            ? new FileSink(Paths.get(line.getOptionValue("o"))) : new NullSink()) {
+                        if (allColorModes) {
+                            for (ColorMode mode : ColorMode.values()) {
+                                Throughput throughput = Throughput.measure(image, renderOptions.setColorMode(mode),
+                                        frames, sink);
+                                System.out.println(mode.name().toLowerCase() + ": " + throughput);
+                            }
+                        } else {
+                            System.out.println(Throughput.measure(image, renderOptions, frames, sink));
+                        }
+                    }
+                    return;
+                }
+
+                if (line.hasOption("wt")) {
+                    try (OutputSink sink = line.hasOption("o")
+                            ? new FileSink(Paths.get(line.getOptionValue("o"))) : new ConsoleSink()) {
+                        ImageWatcher.Result result = new ImageWatcher(renderOptions, sink).watch(Paths.get(pathname));
+                        System.out.println(result);
+                    } catch (IOException e) {
+                        System.out.println("Unable to watch image: " + e.getMessage());
+                        System.exit(1);
+                    }
+                    return;
+                }
+
+                if (line.hasOption("a")) {
+                    try (OutputSink sink = line.hasOption("o")
+                            ? new FileSink(Paths.get(line.getOptionValue("o"))) : new ConsoleSink()) {
+                        GifPlayer.Result result = new GifPlayer(renderOptions, sink).play(new File(pathname));
+                        System.out.println(result);
+                    }
+                    return;
+                }
+
+                RenderMetrics metrics = line.hasOption("pr") ? new RenderMetrics() : RenderMetrics.DISABLED;
+                if (!line.hasOption("o")) {
+                    System.out.println();
+                }
+                try (OutputSink sink = line.hasOption("o")
+                        ? new FileSink(Paths.get(line.getOptionValue("o"))) : new ConsoleSink()) {
+                    if (line.hasOption("sz")) {
+                        List<Dimension> sizes = new ArrayList<>();
+                        int maxWidth = 0;
+                        int maxHeight = 0;
+                        for (String size : line.getOptionValue("sz").split(",")) {
+                            Dimension dimension = parseSize(size);
+                            sizes.add(dimension);
+                            maxWidth = Math.max(maxWidth, dimension.width);
+                            maxHeight = Math.max(maxHeight, dimension.height);
+                        }
+
+                        metrics.begin();
+                        BufferedImage image = ImageDecoder.decode(new File(pathname), maxWidth, maxHeight);
+                        metrics.end(Stage.DECODE, (long) image.getWidth() * image.getHeight());
+                        metrics.begin();
+                        MipPyramid pyramid = new MipPyramid(image);
+                        metrics.end(Stage.RESIZE, (long) image.getWidth() * image.getHeight());
+
+                        RenderContext context = new RenderContext(sink);
+                        for (Dimension size : sizes) {
+                            ASCIIArt.render(pyramid, renderOptions.setWidth(size.width).setHeight(size.height),
+                                    context, metrics);
+                        }
+                        sink.flush();
+                    } else {
+                        ASCIIArt.render(pathname, renderOptions, sink, metrics);
+                    }
+                }
+                if (metrics.isEnabled()) {
+                    System.out.println(metrics);
+                }
+                if (!line.hasOption("o")) {
+                    in.nextLine();
+                }
             } else {
                 System.out.println("Image pathname is required.");
                 formatter.printHelp("ascii-art", options);
@@ -127,10 +504,32 @@ public class Main {
             System.out.println("Error parsing command-line arguments.");
             formatter.printHelp("ascii-art", options);
             System.exit(1);
-        } catch (IOException e) {
-            System.out.println("Unable to locate image.");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid command-line argument: " + e.getMessage());
             formatter.printHelp("ascii-art", options);
             System.exit(1);
+        } catch (IOException e) {
+            System.out.println("Unable to render image: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parses a size given as WIDTHxHEIGHT, such as 1280x720.
+     *
+     * @param size the size.
+     * @return the width and height.
+     * @throws IllegalArgumentException if the size is not in the expected form or is not positive.
+     */
+    private static Dimension parseSize(String size) {
+        String[] parts = size.trim().toLowerCase().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Sizes must be given as WIDTHxHEIGHT: " + size);
+        }
+        Dimension dimension = new Dimension(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        if (dimension.width <= 0 || dimension.height <= 0) {
+            throw new IllegalArgumentException("Sizes must be positive: " + size);
         }
+        return dimension;
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * MipPyramid.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * MipPyramid holds an image together with copies of it at every power-of-two reduction, each level
+ * averaging 2x2 blocks of the level above it, down to a single pixel along one axis. Building the
+ * pyramid costs about a third more than reading the source once, after which an image of any size is
+ * resampled from the smallest level that still has {@link ImageDecoder#OVERSAMPLING} pixels for each
+ * rendered pixel along both axes, so each additional size costs time proportional to its own area
+ * rather than to the area of the source.
+ *
+ * <p>Levels are shared by every render and must not be modified.</p>
+ *
+ * @author Grant Randa
+ */
+public class MipPyramid {
+
+    private final List<BufferedImage> levels;
+
+    /**
+     * Builds the pyramid of an image. The image itself is the first level and is not copied.
+     *
+     * @param image the source image.
+     */
+    public MipPyramid(BufferedImage image) {
+        List<BufferedImage> levels = new ArrayList<>();
+        levels.add(image);
+        if (image.getWidth() > 1 && image.getHeight() > 1) {
+            BufferedImage level = reduce(image);
+            levels.add(level);
+            while (level.getWidth() > 1 && level.getHeight() > 1) {
+                level = reduce(level);
+                levels.add(level);
+            }
+        }
+        this.levels = Collections.unmodifiableList(levels);
+    }
+
+    /**
+     * Returns the level that an image of the given size is resampled from.
+     *
+     * @param width  the width of the render.
+     * @param height the height of the render.
+     * @return the smallest level with enough pixels for the render, or the source image if no reduced
+     * level has enough.
+     */
+    public BufferedImage getLevel(int width, int height) {
+        long minWidth = (long) width * ImageDecoder.OVERSAMPLING;
+        long minHeight = (long) height * ImageDecoder.OVERSAMPLING;
+        for (int i = levels.size() - 1; i > 0; i--) {
+            BufferedImage level = levels.get(i);
+            if (level.getWidth() >= minWidth && level.getHeight() >= minHeight) {
+                return level;
+            }
+        }
+        return levels.get(0);
+    }
+
+    /**
+     * Returns every level, from the source image to the smallest.
+     *
+     * @return an unmodifiable list of levels.
+     */
+    public List<BufferedImage> getLevels() {
+        return levels;
+    }
+
+    /**
+     * Returns the number of bytes used by the pixels of every level, including the source image.
+     *
+     * @return the size of the pyramid.
+     */
+    public long getWeight() {
+        long weight = 0;
+        for (BufferedImage level : levels) {
+            weight += ImageCache.getWeight(level);
+        }
+        return weight;
+    }
+
+    /**
+     * Returns an image half the size of the given one, rounded up, in which each pixel averages a 2x2
+     * block of source pixels. The last row or column of an odd-sized image is averaged with itself.
+     */
+    private static BufferedImage reduce(BufferedImage image) {
+        int sourceWidth = image.getWidth();
+        int sourceHeight = image.getHeight();
+        int width = (sourceWidth + 1) / 2;
+        int height = (sourceHeight + 1) / 2;
+        BufferedImage reduced = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) reduced.getRaster().getDataBuffer()).getData();
+        int[] top = new int[sourceWidth];
+        int[] bottom = new int[sourceWidth];
+
+        for (int y = 0; y < height; y++) {
+            ASCIIArt.getRow(image, y * 2, top);
+            ASCIIArt.getRow(image, Math.min(y * 2 + 1, sourceHeight - 1), bottom);
+            for (int x = 0; x < width; x++) {
+                int left = x * 2;
+                int right = Math.min(left + 1, sourceWidth - 1);
+                pixels[y * width + x] = average(top[left], top[right], bottom[left], bottom[right]);
+            }
+        }
+        return reduced;
+    }
+
+    private static int average(int p0, int p1, int p2, int p3) {
+        int a = ((p0 >>> 24) + (p1 >>> 24) + (p2 >>> 24) + (p3 >>> 24) + 2) >> 2;
+        int r = (((p0 >> 16) & 0xFF) + ((p1 >> 16) & 0xFF) + ((p2 >> 16) & 0xFF) + ((p3 >> 16) & 0xFF) + 2) >> 2;
+        int g = (((p0 >> 8) & 0xFF) + ((p1 >> 8) & 0xFF) + ((p2 >> 8) & 0xFF) + ((p3 >> 8) & 0xFF) + 2) >> 2;
+        int b = ((p0 & 0xFF) + (p1 & 0xFF) + (p2 & 0xFF) + (p3 & 0xFF) + 2) >> 2;
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * NullSink.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+/**
+ * NullSink discards everything written to it while counting the bytes, so that rendering can be
+ * measured without the cost of any real output.
+ *
+ * @author Grant Randa
+ */
+public class NullSink implements OutputSink {
+
+    private long bytesWritten;
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) {
+        bytesWritten += length;
+    }
+
+    @Override
+    public void flush() {
+
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public void close() {
+
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * OutputSink.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * An OutputSink is the destination of finished frames written by a {@link FrameEmitter}.
+ *
+ * @author Grant Randa
+ */
+public interface OutputSink extends Closeable {
+
+    /**
+     * Writes bytes to the sink. A sink may buffer the bytes until it is flushed or closed.
+     *
+     * @param buffer the bytes to write.
+     * @param offset the index of the first byte to write.
+     * @param length the number of bytes to write.
+     * @throws IOException if the bytes cannot be written.
+     */
+    void write(byte[] buffer, int offset, int length) throws IOException;
+
+    /**
+     * Writes any buffered bytes to their destination.
+     *
+     * @throws IOException if the bytes cannot be written.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Returns the total number of bytes written to the sink.
+     *
+     * @return the number of bytes written.
+     */
+    long getBytesWritten();
+}
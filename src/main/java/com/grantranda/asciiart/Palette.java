@@ -0,0 +1,179 @@
+/*
+ * Palette.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Palette maps RGB values to the index of the nearest color in a fixed set of colors through a
+ * lookup table built once, so that mapping a pixel costs a single array load instead of a search
+ * over every color. The table quantizes each channel to a given number of bits; with 8 bits per
+ * channel it covers every 24-bit RGB value exactly.
+ *
+ * @author Grant Randa
+ */
+public class Palette {
+
+    /**
+     * The default number of bits per channel used to index lookup tables, giving a 32x32x32 table.
+     */
+    public static final int DEFAULT_BITS = 5;
+
+    /**
+     * The channel levels of the 6x6x6 color cube of the xterm 256-color palette.
+     */
+    private static final int[] CUBE_LEVELS = {0, 95, 135, 175, 215, 255};
+
+    /**
+     * The xterm 256-color palette. Only the color cube and the grayscale ramp are used as targets, since
+     * the first 16 colors depend on the terminal's theme.
+     */
+    public static final Palette XTERM_256 = xterm256(DEFAULT_BITS);
+
+    /**
+     * The eight colors of {@link ASCIIArt#BASIC_COLORS}, matched by Manhattan distance.
+     */
+    public static final Palette BASIC = basic(DEFAULT_BITS);
+
+    private final int[] colors;
+    private final int bits;
+    private final byte[] table;
+
+    /**
+     * Creates a Palette and builds its lookup table. Each entry of the table holds the nearest color to
+     * the center of the range of RGB values that the entry covers.
+     *
+     * @param colors  the RGB values of the palette, by index.
+     * @param bits    the number of bits per channel used to index the lookup table, between 1 and 8.
+     * @param nearest a function returning the index of the nearest palette color to an RGB value.
+     */
+    public Palette(int[] colors, int bits, IntUnaryOperator nearest) {
+        if (bits < 1 || bits > 8) {
+            throw new IllegalArgumentException("Bits per channel must be between 1 and 8");
+        }
+        if (colors.length > 256) {
+            throw new IllegalArgumentException("Palettes are limited to 256 colors");
+        }
+        this.colors = colors.clone();
+        this.bits = bits;
+        this.table = new byte[1 << (3 * bits)];
+
+        int shift = 8 - bits;
+        int center = (1 << shift) >> 1;
+        int levels = 1 << bits;
+        int i = 0;
+        for (int r = 0; r < levels; r++) {
+            for (int g = 0; g < levels; g++) {
+                for (int b = 0; b < levels; b++) {
+                    int rgb = ((r << shift) | center) << 16 | ((g << shift) | center) << 8 | ((b << shift) | center);
+                    table[i++] = (byte) nearest.applyAsInt(rgb);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the palette of {@link ASCIIArt#BASIC_COLORS} with a lookup table of the given precision.
+     *
+     * @param bits the number of bits per channel used to index the lookup table.
+     * @return the basic color palette.
+     */
+    public static Palette basic(int bits) {
+        int[] colors = new int[ASCIIArt.BASIC_COLORS.length];
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = ASCIIArt.BASIC_COLORS[i].getRGB() & 0xFFFFFF;
+        }
+        return new Palette(colors, bits, ASCIIArt::findBasicColorIndex);
+    }
+
+    /**
+     * Returns the xterm 256-color palette with a lookup table of the given precision. A precision of 8
+     * bits per channel builds a 16 MB table that maps every RGB value exactly.
+     *
+     * @param bits the number of bits per channel used to index the lookup table.
+     * @return the xterm 256-color palette.
+     */
+    public static Palette xterm256(int bits) {
+        int[] colors = new int[256];
+        for (int i = 0; i < 216; i++) {
+            colors[16 + i] = CUBE_LEVELS[i / 36] << 16 | CUBE_LEVELS[i / 6 % 6] << 8 | CUBE_LEVELS[i % 6];
+        }
+        for (int i = 0; i < 24; i++) {
+            int level = 8 + 10 * i;
+            colors[232 + i] = level << 16 | level << 8 | level;
+        }
+        return new Palette(colors, bits, Palette::getNearestXterm256Index);
+    }
+
+    /**
+     * Returns the index of the palette color nearest to an RGB value.
+     *
+     * @param rgb an integer containing RGB values.
+     * @return an index into this palette.
+     */
+    public int getIndex(int rgb) {
+        int shift = 8 - bits;
+        int mask = (1 << bits) - 1;
+        return table[((rgb >> (16 + shift)) & mask) << (2 * bits)
+                | ((rgb >> (8 + shift)) & mask) << bits
+                | ((rgb >> shift) & mask)] & 0xFF;
+    }
+
+    /**
+     * Returns the RGB value of a palette color.
+     *
+     * @param index an index into this palette.
+     * @return the RGB value of the color.
+     */
+    public int getColor(int index) {
+        return colors[index];
+    }
+
+    public int size() {
+        return colors.length;
+    }
+
+    public int getBits() {
+        return bits;
+    }
+
+    /**
+     * Returns the index of the xterm 256-color palette entry nearest to an RGB value by squared distance.
+     * The nearest cube color is found one channel at a time, and the nearest gray from the mean of the
+     * channels, so only two candidates are compared.
+     */
+    private static int getNearestXterm256Index(int rgb) {
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
+
+        int cubeR = getNearestCubeLevel(r);
+        int cubeG = getNearestCubeLevel(g);
+        int cubeB = getNearestCubeLevel(b);
+        int cubeDistance = square(r - CUBE_LEVELS[cubeR]) + square(g - CUBE_LEVELS[cubeG])
+                + square(b - CUBE_LEVELS[cubeB]);
+
+        int gray = Math.max(0, Math.min(23, ((r + g + b) / 3 - 3) / 10));
+        int grayLevel = 8 + 10 * gray;
+        int grayDistance = square(r - grayLevel) + square(g - grayLevel) + square(b - grayLevel);
+
+        return grayDistance < cubeDistance ? 232 + gray : 16 + 36 * cubeR + 6 * cubeG + cubeB;
+    }
+
+    private static int getNearestCubeLevel(int value) {
+        int nearest = 0;
+        for (int i = 1; i < CUBE_LEVELS.length; i++) {
+            if (Math.abs(value - CUBE_LEVELS[i]) < Math.abs(value - CUBE_LEVELS[nearest])) {
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+
+    private static int square(int value) {
+        return value * value;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * ParallelConverter.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.Brightness;
+import com.grantranda.asciiart.ASCIIArt.ColorMode;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelConverter splits a conversion into stripes of rows that are converted concurrently on a
+ * ForkJoinPool. Each stripe writes to a disjoint region of the same {@link Frame}, so the result is
+ * identical to a sequential conversion with {@link FusedConverter}.
+ *
+ * @author Grant Randa
+ */
+public class ParallelConverter {
+
+    /**
+     * The minimum number of pixels converted by a single stripe. Frames smaller than this are
+     * converted on the calling thread.
+     */
+    public static final int MIN_STRIPE_PIXELS = 1 << 14;
+
+    private static final Map<Integer, ForkJoinPool> POOLS = new HashMap<>();
+
+    private ParallelConverter() {
+
+    }
+
+    /**
+     * Converts an array of RGB values into the given frame using the given number of threads.
+     *
+     * @param rgbArray          an array containing RGB values in the form of integers, stored row by row.
+     * @param frame             the frame that characters and color codes are written to.
+     * @param brightnessMapping the brightness mapping used to calculate brightness values.
+     * @param glyphRamp         the ramp used to map brightness levels to ASCII characters.
+     * @param colorMode         the color mode of the color codes written to the frame, or null if the
+     *                          frame is uncolored.
+     * @param threads           the number of threads to convert with.
+     */
+    public static void convert(int[] rgbArray, Frame frame, Brightness brightnessMapping, GlyphRamp glyphRamp,
+                               ColorMode colorMode, int threads) {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        int stripeRows = Math.max((MIN_STRIPE_PIXELS + width - 1) / width, (height + threads * 4 - 1) / (threads * 4));
+
+        if (threads <= 1 || stripeRows >= height) {
+            FusedConverter.convert(rgbArray, frame, brightnessMapping, glyphRamp, colorMode);
+            return;
+        }
+        getPool(threads).invoke(new StripeTask(rgbArray, frame, brightnessMapping, glyphRamp, colorMode,
+                0, height, stripeRows));
+        frame.setColorMode(colorMode);
+    }
+
+    /**
+     * Returns a shared pool with the given parallelism, creating it if necessary.
+     *
+     * @param threads the parallelism of the pool.
+     * @return a ForkJoinPool with the given parallelism.
+     */
+    static synchronized ForkJoinPool getPool(int threads) {
+        ForkJoinPool pool = POOLS.get(threads);
+        if (pool == null) {
+            pool = new ForkJoinPool(threads);
+            POOLS.put(threads, pool);
+        }
+        return pool;
+    }
+
+    private static class StripeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] rgbArray;
+        private final Frame frame;
+        private final Brightness brightnessMapping;
+        private final GlyphRamp glyphRamp;
+        private final ColorMode colorMode;
+        private final int startRow;
+        private final int endRow;
+        private final int stripeRows;
+
+        StripeTask(int[] rgbArray, Frame frame, Brightness brightnessMapping, GlyphRamp glyphRamp,
+                   ColorMode colorMode, int startRow, int endRow, int stripeRows) {
+            this.rgbArray = rgbArray;
+            this.frame = frame;
+            this.brightnessMapping = brightnessMapping;
+            this.glyphRamp = glyphRamp;
+            this.colorMode = colorMode;
+            this.startRow = startRow;
+            this.endRow = endRow;
+            this.stripeRows = stripeRows;
+        }
+
+        @Override
+        protected void compute() {
+            if (endRow - startRow <= stripeRows) {
+                FusedConverter.convertRows(rgbArray, frame, brightnessMapping, glyphRamp, colorMode,
+                        startRow, endRow);
+                return;
+            }
+            int middleRow = (startRow + endRow) >>> 1;
+            invokeAll(new StripeTask(rgbArray, frame, brightnessMapping, glyphRamp, colorMode,
+                            startRow, middleRow, stripeRows),
+                    new StripeTask(rgbArray, frame, brightnessMapping, glyphRamp, colorMode,
+                            middleRow, endRow, stripeRows));
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * RenderCache.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RenderCache stores rendered output by a content address: the SHA-256 hash of the encoded image
+ * together with every option that affects the output. A repeated render of the same image with the same
+ * options can then be answered from the cache without decoding, resizing or mapping the image again.
+ *
+ * <p>Entries are kept in memory in least recently used order, bounded by the total size of their
+ * output. Output larger than that bound is never held in memory. If a directory is given, every entry
+ * is also written to it, so that entries evicted from memory, or stored by an earlier process, are found
+ * there and moved back into memory. The directory is not pruned. Failing to read or write the directory
+ * only makes the cache miss, and never fails a render.</p>
+ *
+ * <p>A RenderCache is safe to use from multiple threads.</p>
+ *
+ * @author Grant Randa
+ */
+public class RenderCache {
+
+    /**
+     * The default total size of the output held in memory.
+     */
+    public static final long DEFAULT_MAX_MEMORY_BYTES = 64L << 20;
+
+    private static final String FILE_SUFFIX = ".ans";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final long maxMemoryBytes;
+    private final Path directory;
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private long hits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a RenderCache that only holds entries in memory.
+     *
+     * @param maxMemoryBytes the total size of the output held in memory.
+     */
+    public RenderCache(long maxMemoryBytes) {
+        this(maxMemoryBytes, null);
+    }
+
+    /**
+     * Creates a RenderCache.
+     *
+     * @param maxMemoryBytes the total size of the output held in memory.
+     * @param directory      the directory that entries are also stored in, which is created when the
+     *                       first entry is stored, or null to only hold entries in memory.
+     */
+    public RenderCache(long maxMemoryBytes, Path directory) {
+        if (maxMemoryBytes < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the key of an image rendered with the given options. The key is a hexadecimal SHA-256
+     * hash, so it can also be used as a file name.
+     *
+     * @param image   the encoded image.
+     * @param options the options the image is rendered with.
+     * @return the cache key.
+     */
+    public static String getKey(byte[] image, RenderOptions options) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        // The image is prefixed with its length, so that its bytes cannot run on into the options
+        long length = image.length;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            digest.update((byte) (length >>> shift));
+        }
+        digest.update(image);
+        digest.update(describe(options).getBytes(StandardCharsets.UTF_8));
+
+        byte[] hash = digest.digest();
+        char[] key = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            key[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            key[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+        return new String(key);
+    }
+
+    /**
+     * Returns the cached output for a key, looking in memory first and then in the directory.
+     *
+     * @param key the cache key.
+     * @return the rendered output, or null if it is not cached. The array must not be modified.
+     */
+    public byte[] get(String key) {
+        synchronized (this) {
+            byte[] output = entries.get(key);
+            if (output != null) {
+                hits++;
+                return output;
+            }
+        }
+
+        byte[] output = null;
+        if (directory != null) {
+            try {
+                output = Files.readAllBytes(directory.resolve(key + FILE_SUFFIX));
+            } catch (IOException e) {
+                output = null;
+            }
+        }
+        synchronized (this) {
+            if (output == null) {
+                misses++;
+                return null;
+            }
+            diskHits++;
+            store(key, output);
+            return output;
+        }
+    }
+
+    /**
+     * Adds rendered output to the cache.
+     *
+     * @param key    the cache key.
+     * @param output the rendered output, which must not be modified afterwards.
+     */
+    public void put(String key, byte[] output) {
+        synchronized (this) {
+            store(key, output);
+        }
+        if (directory != null) {
+            Path file = directory.resolve(key + FILE_SUFFIX);
+            Path temp = null;
+            try {
+                Files.createDirectories(directory);
+                temp = Files.createTempFile(directory, key, ".tmp");
+                Files.write(temp, output);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered from memory.
+     *
+     * @return the number of memory hits.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that missed memory and were answered from the directory.
+     *
+     * @return the number of disk hits.
+     */
+    public synchronized long getDiskHits() {
+        return diskHits;
+    }
+
+    /**
+     * Returns the number of lookups that were not cached at all.
+     *
+     * @return the number of misses.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries evicted from memory to stay within its size. Evicted entries remain
+     * in the directory, if there is one.
+     *
+     * @return the number of evictions.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized int getMemoryEntries() {
+        return entries.size();
+    }
+
+    public synchronized long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d hits, %d disk hits, %d misses, %d evictions, %d entries in memory (%d bytes)",
+                hits, diskHits, misses, evictions, entries.size(), memoryBytes);
+    }
+
+    /**
+     * Returns every option that affects the output of a render. The thread count is left out because
+     * every thread count produces the same output.
+     */
+    private static String describe(RenderOptions options) {
+        Resampler resampler = options.getResampler();
+        String resamplerName = resampler.getClass().getName();
+        if (resampler instanceof LanczosResampler) {
+            resamplerName += ":" + ((LanczosResampler) resampler).getLobes();
+        }
+        GlyphRamp glyphRamp = options.getGlyphRamp();
+        return options.getWidth() + "x" + options.getHeight()
+                + "|" + options.getBrightnessMapping()
+                + "|" + glyphRamp.isInverted() + "|" + glyphRamp.getRamp()
+                + "|" + options.getFrameColorMode()
+                + "|" + options.getPipeline()
+                + "|" + resamplerName;
+    }
+
+    /**
+     * Adds output to memory, evicting the least recently used entries until memory is within its size.
+     * Output larger than the whole of memory is not held in memory at all, so that it does not evict
+     * every other entry before being evicted itself.
+     */
+    private void store(String key, byte[] output) {
+        if (output.length > maxMemoryBytes) {
+            byte[] previous = entries.remove(key);
+            if (previous != null) {
+                memoryBytes -= previous.length;
+            }
+            return;
+        }
+        byte[] previous = entries.put(key, output);
+        if (previous != null) {
+            memoryBytes -= previous.length;
+        }
+        memoryBytes += output.length;
+
+        Iterator<Map.Entry<String, byte[]>> eldest = entries.entrySet().iterator();
+        while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+            memoryBytes -= eldest.next().getValue().length;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Left behind for the next cleanup of the directory.
+        }
+    }
+}
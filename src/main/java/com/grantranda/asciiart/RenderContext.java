@@ -0,0 +1,161 @@
+/*
+ * RenderContext.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * RenderContext holds the buffers used to render an image, so that repeated renders can reuse them
+ * instead of allocating new ones. The resampled pixel array, the brightness array of the packed
+ * pipeline and the {@link Frame} are sized for the width and height of the render, the scratch arrays
+ * of the resamplers and of {@link CellSampler} for the width and height of the source and the render,
+ * and all of them are only replaced when those dimensions change. The output buffers of the
+ * {@link FrameEmitter} only grow. Once a context has rendered an image of a given size into a frame of
+ * a given size, rendering another such image through the fused, cell or packed pipelines with the box,
+ * bilinear or Lanczos resampler allocates nothing. The legacy pipeline still builds its matrices for
+ * every frame, and the smooth resampler still creates an image for every frame.
+ *
+ * <p>A context must not be used by concurrent renders.</p>
+ *
+ * @author Grant Randa
+ */
+public class RenderContext {
+
+    private final FrameEmitter emitter;
+    private int[] pixels = new int[0];
+    private int[] brightness = new int[0];
+    private int[] sourcePixels = new int[0];
+    private int[] sourceRow = new int[0];
+    private final Map<Class<?>, Object> scratch = new HashMap<>();
+    private Frame frame;
+
+    /**
+     * Creates a RenderContext that writes frames to {@link System#out}.
+     */
+    public RenderContext() {
+        this(new FrameEmitter());
+    }
+
+    /**
+     * Creates a RenderContext that writes frames to the given sink.
+     *
+     * @param sink the sink that finished frames are written to.
+     */
+    public RenderContext(OutputSink sink) {
+        this(new FrameEmitter(sink));
+    }
+
+    /**
+     * Creates a RenderContext that writes frames through the given emitter.
+     *
+     * @param emitter the emitter that finished frames are written to.
+     */
+    public RenderContext(FrameEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    public FrameEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Returns the frame of this context, replacing it with an empty frame if its dimensions differ
+     * from the given ones.
+     *
+     * @param width  the frame width.
+     * @param height the frame height.
+     * @return a frame with the given dimensions, holding the previous contents if it was reused.
+     */
+    public Frame getFrame(int width, int height) {
+        if (frame == null || frame.getWidth() != width || frame.getHeight() != height) {
+            frame = new Frame(width, height);
+        }
+        return frame;
+    }
+
+    /**
+     * Returns the array that resampled pixels are written to.
+     *
+     * @param width  the resampled width.
+     * @param height the resampled height.
+     * @return an array of exactly width * height elements.
+     */
+    int[] getPixels(int width, int height) {
+        if (pixels.length != width * height) {
+            pixels = new int[width * height];
+        }
+        return pixels;
+    }
+
+    /**
+     * Returns the array that brightness values are written to by the packed pipeline.
+     *
+     * @param width  the frame width.
+     * @param height the frame height.
+     * @return an array of exactly width * height elements.
+     */
+    int[] getBrightness(int width, int height) {
+        if (brightness.length != width * height) {
+            brightness = new int[width * height];
+        }
+        return brightness;
+    }
+
+    /**
+     * Returns the packed ARGB values of every pixel of a source image, as
+     * {@link ASCIIArt#getPixels(BufferedImage)} does, copying them into an array of this context if the
+     * image does not store them as packed ARGB integers itself.
+     *
+     * @param image the source image.
+     * @return an array of the image's area, which may be the image's own pixel data.
+     */
+    int[] getSourcePixels(BufferedImage image) {
+        int width = image.getWidth();
+        int area = width * image.getHeight();
+        if (!ASCIIArt.hasPixelArray(image)) {
+            if (sourcePixels.length != area) {
+                sourcePixels = new int[area];
+            }
+            if (sourceRow.length < width) {
+                sourceRow = new int[width];
+            }
+        }
+        return ASCIIArt.getPixels(image, sourcePixels, sourceRow);
+    }
+
+    /**
+     * Returns the scratch arrays of the given type that a resampler or sampler keeps in this context,
+     * creating them the first time they are requested. The owner of the arrays resizes them, and only
+     * replaces them when the dimensions of the render change.
+     *
+     * @param type    the type of the scratch arrays.
+     * @param factory creates empty scratch arrays.
+     * @return the scratch arrays of this context.
+     */
+    <T> T getScratch(Class<T> type, Supplier<T> factory) {
+        Object arrays = scratch.get(type);
+        if (arrays == null) {
+            arrays = factory.get();
+            scratch.put(type, arrays);
+        }
+        return type.cast(arrays);
+    }
+
+    /**
+     * Returns the scratch arrays of the given type kept in a context, or new ones if there is no context.
+     *
+     * @param context the context, or null.
+     * @param type    the type of the scratch arrays.
+     * @param factory creates empty scratch arrays.
+     * @return the scratch arrays of the context, or new ones.
+     */
+    static <T> T getScratch(RenderContext context, Class<T> type, Supplier<T> factory) {
+        return context != null ? context.getScratch(type, factory) : factory.get();
+    }
+}
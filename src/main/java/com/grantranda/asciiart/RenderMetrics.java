@@ -0,0 +1,204 @@
+/*
+ * RenderMetrics.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * RenderMetrics records the wall time, allocated bytes and number of pixels processed by each stage of
+ * a render. Metrics accumulate over every render they are passed to, so a single instance can describe
+ * one render or the total of many. Allocations are measured for the rendering thread only, through
+ * {@link com.sun.management.ThreadMXBean} where the JVM supports it, so bytes allocated by the worker
+ * threads of a multithreaded conversion are not included.
+ *
+ * <p>An instance records one stage at a time and must not be shared by concurrent renders.</p>
+ *
+ * @author Grant Randa
+ */
+public class RenderMetrics {
+
+    /**
+     * The stages of a render. The fused and cell pipelines compute brightness, glyphs and colors in a
+     * single CONVERT stage, and the cell pipeline resizes as part of it as well.
+     */
+    public enum Stage {
+        DECODE, RESIZE, BRIGHTNESS, GLYPHS, COLORS, CONVERT, OUTPUT
+    }
+
+    /**
+     * Metrics that record nothing, used by renders that are not instrumented.
+     */
+    public static final RenderMetrics DISABLED = new RenderMetrics(false);
+
+    private static final com.sun.management.ThreadMXBean THREADS = getThreadMXBean();
+
+    private final boolean enabled;
+    private final Map<Stage, long[]> stages = new EnumMap<>(Stage.class);
+    private long stageStartNanos;
+    private long stageStartBytes;
+
+    /**
+     * Creates empty RenderMetrics.
+     */
+    public RenderMetrics() {
+        this(true);
+    }
+
+    private RenderMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far.
+     *
+     * @return the allocated bytes, or -1 if the JVM does not measure allocations.
+     */
+    public static long getAllocatedBytes() {
+        return THREADS != null ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    /**
+     * Starts timing a stage on the current thread.
+     */
+    public void begin() {
+        if (enabled) {
+            stageStartBytes = getAllocatedBytes();
+            stageStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Finishes timing the stage started by the last call to {@link #begin()} and adds it to the totals of
+     * the given stage.
+     *
+     * @param stage  the stage that finished.
+     * @param pixels the number of pixels that the stage processed.
+     */
+    public void end(Stage stage, long pixels) {
+        record(stage, 1, pixels);
+    }
+
+    /**
+     * Finishes timing the work started by the last call to {@link #begin()} and adds it to the last
+     * recording of the given stage, without counting another recording. This is used for work that
+     * belongs to a stage but runs after it was recorded, such as flushing the output of a render.
+     *
+     * @param stage the stage that the work belongs to.
+     */
+    public void extend(Stage stage) {
+        record(stage, 0, 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the number of times a stage was recorded.
+     *
+     * @param stage the stage.
+     * @return the number of recordings, or 0 if the stage never ran.
+     */
+    public long getCount(Stage stage) {
+        return get(stage, 0);
+    }
+
+    /**
+     * Returns the total wall time of a stage.
+     *
+     * @param stage the stage.
+     * @return the time in nanoseconds.
+     */
+    public long getNanos(Stage stage) {
+        return get(stage, 1);
+    }
+
+    /**
+     * Returns the total number of bytes allocated by a stage on the rendering thread.
+     *
+     * @param stage the stage.
+     * @return the allocated bytes, or 0 if the JVM does not measure allocations.
+     */
+    public long getAllocatedBytes(Stage stage) {
+        return THREADS != null ? get(stage, 2) : 0;
+    }
+
+    /**
+     * Returns the total number of pixels processed by a stage.
+     *
+     * @param stage the stage.
+     * @return the number of pixels.
+     */
+    public long getPixels(Stage stage) {
+        return get(stage, 3);
+    }
+
+    /**
+     * Discards every recorded stage.
+     */
+    public void reset() {
+        stages.clear();
+    }
+
+    /**
+     * Returns a table of the recorded stages and their totals.
+     *
+     * @return the formatted metrics.
+     */
+    @Override
+    public String toString() {
+        StringBuilder table = new StringBuilder(String.format("%-10s %6s %12s %14s %12s %10s%n",
+                "stage", "count", "ms", "bytes", "pixels", "ns/pixel"));
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (Stage stage : stages.keySet()) {
+            long pixels = getPixels(stage);
+            table.append(String.format("%-10s %6d %12.3f %14s %12d %10.2f%n", stage, getCount(stage),
+                    getNanos(stage) / 1e6, THREADS != null ? Long.toString(getAllocatedBytes(stage)) : "n/a",
+                    pixels, pixels == 0 ? 0 : (double) getNanos(stage) / pixels));
+            totalNanos += getNanos(stage);
+            totalBytes += getAllocatedBytes(stage);
+        }
+        table.append(String.format("%-10s %6s %12.3f %14s", "total", "", totalNanos / 1e6,
+                THREADS != null ? Long.toString(totalBytes) : "n/a"));
+        return table.toString();
+    }
+
+    private void record(Stage stage, long count, long pixels) {
+        if (!enabled) {
+            return;
+        }
+        long nanos = System.nanoTime() - stageStartNanos;
+        long bytes = getAllocatedBytes() - stageStartBytes;
+        long[] totals = stages.get(stage);
+        if (totals == null) {
+            totals = new long[4];
+            stages.put(stage, totals);
+        }
+        totals[0] += count;
+        totals[1] += nanos;
+        totals[2] += bytes;
+        totals[3] += pixels;
+    }
+
+    private long get(Stage stage, int index) {
+        long[] totals = stages.get(stage);
+        return totals == null ? 0 : totals[index];
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+}
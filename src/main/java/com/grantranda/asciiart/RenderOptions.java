@@ -0,0 +1,161 @@
+/*
+ * RenderOptions.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.Brightness;
+import com.grantranda.asciiart.ASCIIArt.ColorMode;
+import com.grantranda.asciiart.ASCIIArt.Pipeline;
+
+/**
+ * RenderOptions holds the parameters used by {@link ASCIIArt#render(java.awt.image.BufferedImage, RenderOptions,
+ * FrameEmitter)}. Unset options take the defaults used by {@link Main}.
+ *
+ * @author Grant Randa
+ */
+public class RenderOptions {
+
+    private int width = Main.DEFAULT_WIDTH;
+    private int height = Main.DEFAULT_HEIGHT;
+    private Brightness brightnessMapping = Main.DEFAULT_BRIGHTNESS;
+    private GlyphRamp glyphRamp = GlyphRamp.DEFAULT;
+    private boolean colored = Main.DEFAULT_COLORED;
+    private ColorMode colorMode = Main.DEFAULT_COLOR_MODE;
+    private Pipeline pipeline = Main.DEFAULT_PIPELINE;
+    private int threads = Main.DEFAULT_THREADS;
+    private Resampler resampler = Main.DEFAULT_RESAMPLING.getResampler();
+
+    /**
+     * Returns a copy of these options that can be changed without affecting them.
+     *
+     * @return new options with the same values.
+     */
+    public RenderOptions copy() {
+        RenderOptions copy = new RenderOptions();
+        copy.width = width;
+        copy.height = height;
+        copy.brightnessMapping = brightnessMapping;
+        copy.glyphRamp = glyphRamp;
+        copy.colored = colored;
+        copy.colorMode = colorMode;
+        copy.pipeline = pipeline;
+        copy.threads = threads;
+        copy.resampler = resampler;
+        return copy;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public RenderOptions setWidth(int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Width must be positive");
+        }
+        this.width = width;
+        return this;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public RenderOptions setHeight(int height) {
+        if (height <= 0) {
+            throw new IllegalArgumentException("Height must be positive");
+        }
+        this.height = height;
+        return this;
+    }
+
+    public Brightness getBrightnessMapping() {
+        return brightnessMapping;
+    }
+
+    public RenderOptions setBrightnessMapping(Brightness brightnessMapping) {
+        this.brightnessMapping = brightnessMapping;
+        return this;
+    }
+
+    public GlyphRamp getGlyphRamp() {
+        return glyphRamp;
+    }
+
+    public RenderOptions setGlyphRamp(GlyphRamp glyphRamp) {
+        this.glyphRamp = glyphRamp;
+        return this;
+    }
+
+    public boolean isColored() {
+        return colored;
+    }
+
+    public RenderOptions setColored(boolean colored) {
+        this.colored = colored;
+        return this;
+    }
+
+    public ColorMode getColorMode() {
+        return colorMode;
+    }
+
+    /**
+     * Sets the colors that colored characters are printed in. The legacy pipeline always prints
+     * {@link ColorMode#BASIC} colors.
+     *
+     * @param colorMode the color mode.
+     * @return these options.
+     */
+    public RenderOptions setColorMode(ColorMode colorMode) {
+        this.colorMode = colorMode;
+        return this;
+    }
+
+    /**
+     * Returns the color mode of rendered frames.
+     *
+     * @return the color mode, or null if frames are uncolored.
+     */
+    ColorMode getFrameColorMode() {
+        return colored ? colorMode : null;
+    }
+
+    public Pipeline getPipeline() {
+        return pipeline;
+    }
+
+    public RenderOptions setPipeline(Pipeline pipeline) {
+        this.pipeline = pipeline;
+        return this;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the number of threads used by the fused pipeline. Other pipelines always run on the
+     * calling thread.
+     *
+     * @param threads the number of threads to convert with.
+     * @return these options.
+     */
+    public RenderOptions setThreads(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    public Resampler getResampler() {
+        return resampler;
+    }
+
+    public RenderOptions setResampler(Resampler resampler) {
+        this.resampler = resampler;
+        return this;
+    }
+}
@@ -0,0 +1,490 @@
+/*
+ * RenderServer.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.Brightness;
+import com.grantranda.asciiart.ASCIIArt.ColorMode;
+import com.grantranda.asciiart.ASCIIArt.Pipeline;
+import com.grantranda.asciiart.ASCIIArt.Resampling;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RenderServer is a long-running HTTP server that renders images on request, so that callers do not
+ * pay for starting a JVM per image. Requests are sent to {@code /render} and either upload the encoded
+ * image as the body of a POST request, or name a local image with the {@code path} parameter, which
+ * is only allowed inside the root directory that the server was started with. The query parameters
+ * {@code width}, {@code height}, {@code brightness}, {@code inverted}, {@code colored},
+ * {@code colorMode}, {@code pipeline} and {@code resampler} override the default options of the server,
+ * and the response body is the rendered text, with ANSI escape sequences if it is colored.
+ *
+ * <p>Requests are handled by a fixed pool of threads with a bounded queue, and connections that arrive
+ * when the queue is full are closed. At most a fixed number of requests read, decode and render an
+ * image at once. Each of those render slots owns a {@link RenderContext} and output buffer that are
+ * reused by every request it serves, and a request takes its slot before it reads an upload, so the
+ * memory held by requests is bounded by the number of slots, the size of an upload and
+ * {@link #MAX_CELLS}. The buffers of a slot are dropped after a render larger than
+ * {@link #MAX_RETAINED_CELLS}. A request that cannot get a slot within
+ * {@link #DEFAULT_SLOT_TIMEOUT_MILLIS} is answered with 503 Service Unavailable.</p>
+ *
+ * <p>If the server has a {@link RenderCache}, a request whose image and options were rendered before is
+ * answered from the cache without decoding or rendering, and the {@code X-Cache} header of each response
+ * tells whether it was a hit. If it has an {@link ImageCache}, local images are only decoded again
+ * when they change. The counters of both caches are served at {@code /stats}.</p>
+ *
+ * @author Grant Randa
+ */
+public class RenderServer {
+
+    /**
+     * The largest image upload, or local image when the server caches its output, that is accepted.
+     */
+    public static final int DEFAULT_MAX_UPLOAD_BYTES = 32 << 20;
+
+    /**
+     * The largest width or height that a request may render at.
+     */
+    public static final int MAX_DIMENSION = 4096;
+
+    /**
+     * The largest number of character cells, width times height, that a request may render.
+     */
+    public static final int MAX_CELLS = 1 << 20;
+
+    /**
+     * The largest render whose buffers a slot keeps for the next request it serves.
+     */
+    public static final int MAX_RETAINED_CELLS = 1 << 18;
+
+    /**
+     * The number of request threads for each render slot. The extra threads wait for a slot, or answer
+     * requests that do not need one.
+     */
+    public static final int THREADS_PER_SLOT = 2;
+
+    /**
+     * The number of connections for each render slot that may wait for a request thread.
+     */
+    public static final int QUEUED_REQUESTS_PER_SLOT = 16;
+
+    /**
+     * How long a request waits for a render slot before it is rejected.
+     */
+    public static final long DEFAULT_SLOT_TIMEOUT_MILLIS = 10_000;
+
+    private static final String CONTEXT_PATH = "/render";
+    private static final String STATS_PATH = "/stats";
+    private static final String TEXT_CONTENT_TYPE = "text/plain; charset=US-ASCII";
+
+    private final RenderOptions defaults;
+    private final Path root;
+    private final RenderCache cache;
+    private final ImageCache imageCache;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final BlockingQueue<Slot> slots;
+
+    /**
+     * Creates a RenderServer. The server does not accept requests until it is started.
+     *
+     * @param address        the address to listen on.
+     * @param defaults       the options used for parameters that a request does not set.
+     * @param root           the directory that local paths must be inside, or null to only accept uploads.
+     * @param maxConcurrency the maximum number of images decoded and rendered at once.
+     * @throws IOException if the server cannot bind to the address.
+     */
+    public RenderServer(InetSocketAddress address, RenderOptions defaults, Path root, int maxConcurrency)
+            throws IOException {
+        this(address, defaults, root, maxConcurrency, null, null);
+    }
+
+    /**
+     * Creates a RenderServer that caches its output and the images it decodes. The server does not
+     * accept requests until it is started.
+     *
+     * @param address        the address to listen on.
+     * @param defaults       the options used for parameters that a request does not set.
+     * @param root           the directory that local paths must be inside, or null to only accept uploads.
+     * @param maxConcurrency the maximum number of images decoded and rendered at once.
+     * @param cache          the cache of rendered output, or null to render every request.
+     * @param imageCache     the cache of images decoded from local paths, or null to decode every request.
+     * @throws IOException if the server cannot bind to the address.
+     */
+    public RenderServer(InetSocketAddress address, RenderOptions defaults, Path root, int maxConcurrency,
+                        RenderCache cache, ImageCache imageCache) throws IOException {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        this.defaults = defaults.copy();
+        this.root = root != null ? root.toRealPath() : null;
+        this.cache = cache;
+        this.imageCache = imageCache;
+        this.slots = new ArrayBlockingQueue<>(maxConcurrency);
+        for (int i = 0; i < maxConcurrency; i++) {
+            slots.add(new Slot());
+        }
+        int threads = maxConcurrency * THREADS_PER_SLOT;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrency * QUEUED_REQUESTS_PER_SLOT), new DaemonThreadFactory());
+        this.server = HttpServer.create(address, 0);
+        this.server.setExecutor(executor);
+        this.server.createContext(CONTEXT_PATH, this::handle);
+        this.server.createContext(STATS_PATH, this::handleStats);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests and waits up to the given time for requests in progress to finish.
+     *
+     * @param delaySeconds the longest time to wait for requests in progress.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the address that the server listens on, with the actual port if it was started on port 0.
+     *
+     * @return the bound address.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "GET, POST");
+                respond(exchange, 405, "Only GET and POST are supported");
+                return;
+            }
+            if (!exchange.getRequestURI().getPath().equals(CONTEXT_PATH)) {
+                respond(exchange, 404, "Not found");
+                return;
+            }
+
+            Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+            RenderOptions options;
+            try {
+                options = getOptions(parameters);
+            } catch (IllegalArgumentException e) {
+                respond(exchange, 400, e.getMessage());
+                return;
+            }
+
+            Path path = null;
+            if (parameters.containsKey("path")) {
+                if (root == null) {
+                    respond(exchange, 403, "Local paths are not enabled on this server");
+                    return;
+                }
+                path = root.resolve(parameters.get("path")).normalize();
+                if (!path.startsWith(root) || !Files.isRegularFile(path)) {
+                    respond(exchange, 404, "No such image: " + parameters.get("path"));
+                    return;
+                }
+                if (!path.toRealPath().startsWith(root)) {
+                    respond(exchange, 403, "Path is outside of the image root: " + parameters.get("path"));
+                    return;
+                }
+            } else if (!method.equals("POST")) {
+                respond(exchange, 400, "Either upload an image with POST or give a path");
+                return;
+            }
+
+            Slot slot;
+            try {
+                slot = slots.poll(DEFAULT_SLOT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                slot = null;
+            }
+            if (slot == null) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                respond(exchange, 503, "Too many renders in progress");
+                return;
+            }
+
+            try {
+                render(exchange, options, path, slot);
+            } finally {
+                if ((long) options.getWidth() * options.getHeight() > MAX_RETAINED_CELLS) {
+                    slot.reset();
+                }
+                slots.add(slot);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Reads, decodes and renders the image of a request in the given slot, or answers it from the cache.
+     */
+    private void render(HttpExchange exchange, RenderOptions options, Path path, Slot slot) throws IOException {
+        byte[] upload = null;
+        if (path == null) {
+            upload = readBody(exchange.getRequestBody());
+            if (upload == null) {
+                respond(exchange, 413, "Images may not be larger than " + DEFAULT_MAX_UPLOAD_BYTES + " bytes");
+                return;
+            }
+        } else if (cache != null) {
+            if (Files.size(path) > DEFAULT_MAX_UPLOAD_BYTES) {
+                respond(exchange, 413, "Images may not be larger than " + DEFAULT_MAX_UPLOAD_BYTES + " bytes");
+                return;
+            }
+            upload = Files.readAllBytes(path);
+        }
+
+        String key = null;
+        if (cache != null) {
+            key = RenderCache.getKey(upload, options);
+            byte[] output = cache.get(key);
+            if (output != null) {
+                exchange.getResponseHeaders().set("X-Cache", "hit");
+                exchange.getResponseHeaders().set("Content-Type", TEXT_CONTENT_TYPE);
+                exchange.sendResponseHeaders(200, output.length);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(output);
+                }
+                return;
+            }
+            exchange.getResponseHeaders().set("X-Cache", "miss");
+        }
+
+        BufferedImage image;
+        try {
+            image = decode(path, upload, options);
+        } catch (IOException | RuntimeException e) {
+            respond(exchange, 415, "Unable to decode image: " + e.getMessage());
+            return;
+        }
+        slot.output.reset();
+        ASCIIArt.render(image, options, slot.context);
+        if (cache != null) {
+            cache.put(key, slot.output.toByteArray());
+        }
+        exchange.getResponseHeaders().set("Content-Type", TEXT_CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, slot.output.size());
+        try (OutputStream body = exchange.getResponseBody()) {
+            slot.output.writeTo(body);
+        }
+    }
+
+    private BufferedImage decode(Path path, byte[] upload, RenderOptions options) throws IOException {
+        if (path == null) {
+            return ImageDecoder.decode(upload, options.getWidth(), options.getHeight());
+        } else if (imageCache != null) {
+            return imageCache.get(path.toFile(), options.getWidth(), options.getHeight());
+        }
+        return ImageDecoder.decode(path.toFile(), options.getWidth(), options.getHeight());
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try {
+            respond(exchange, 200, "cache: " + (cache != null ? cache : "disabled")
+                    + "\nimage cache: " + (imageCache != null ? imageCache : "disabled"));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns the options of a request, starting from the defaults of the server.
+     *
+     * @throws IllegalArgumentException if a parameter is invalid.
+     */
+    private RenderOptions getOptions(Map<String, String> parameters) {
+        RenderOptions options = defaults.copy();
+        if (parameters.containsKey("width")) {
+            options.setWidth(parseDimension(parameters.get("width"), "width"));
+        }
+        if (parameters.containsKey("height")) {
+            options.setHeight(parseDimension(parameters.get("height"), "height"));
+        }
+        if (parameters.containsKey("brightness")) {
+            options.setBrightnessMapping(parseEnum(Brightness.class, parameters.get("brightness"), "brightness"));
+        }
+        if (parameters.containsKey("inverted")) {
+            options.setGlyphRamp(new GlyphRamp(options.getGlyphRamp().getRamp(),
+                    Boolean.parseBoolean(parameters.get("inverted"))));
+        }
+        if (parameters.containsKey("colored")) {
+            options.setColored(Boolean.parseBoolean(parameters.get("colored")));
+        }
+        if (parameters.containsKey("colorMode")) {
+            options.setColorMode(parseEnum(ColorMode.class, parameters.get("colorMode"), "colorMode"));
+        }
+        if (parameters.containsKey("pipeline")) {
+            options.setPipeline(parseEnum(Pipeline.class, parameters.get("pipeline"), "pipeline"));
+        }
+        if (parameters.containsKey("resampler")) {
+            options.setResampler(parseEnum(Resampling.class, parameters.get("resampler"), "resampler")
+                    .getResampler());
+        }
+        if ((long) options.getWidth() * options.getHeight() > MAX_CELLS) {
+            throw new IllegalArgumentException("width * height may not be larger than " + MAX_CELLS);
+        }
+        return options;
+    }
+
+    private static int parseDimension(String value, String name) {
+        int dimension;
+        try {
+            dimension = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+        if (dimension <= 0 || dimension > MAX_DIMENSION) {
+            throw new IllegalArgumentException(name + " must be between 1 and " + MAX_DIMENSION);
+        }
+        return dimension;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, "UTF-8"), URLDecoder.decode(value, "UTF-8"));
+        }
+        return parameters;
+    }
+
+    /**
+     * Reads a request body.
+     *
+     * @return the body, or null if it is larger than {@link #DEFAULT_MAX_UPLOAD_BYTES}.
+     */
+    private static byte[] readBody(InputStream input) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = input.read(buffer)) >= 0) {
+            if (body.size() + read > DEFAULT_MAX_UPLOAD_BYTES) {
+                return null;
+            }
+            body.write(buffer, 0, read);
+        }
+        return body.toByteArray();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = (message + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    /**
+     * A render slot, holding the buffers reused by each request that it serves.
+     */
+    private static class Slot {
+
+        private ByteArrayOutputStream output;
+        private RenderContext context;
+
+        Slot() {
+            reset();
+        }
+
+        /**
+         * Replaces the buffers of the slot with empty ones, so that the memory of a large render is freed.
+         */
+        void reset() {
+            output = new ByteArrayOutputStream();
+            context = new RenderContext(new BufferSink(output));
+        }
+    }
+
+    /**
+     * A sink that collects a response in memory.
+     */
+    private static class BufferSink implements OutputSink {
+
+        private final ByteArrayOutputStream out;
+        private long bytesWritten;
+
+        BufferSink(ByteArrayOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            out.write(buffer, offset, length);
+            bytesWritten += length;
+        }
+
+        @Override
+        public void flush() {
+
+        }
+
+        @Override
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        @Override
+        public void close() {
+
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "render-server-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Resampler.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * A Resampler resizes an image into an array of packed ARGB values. Implementations work directly on
+ * integer rasters so that no intermediate images are created.
+ *
+ * @author Grant Randa
+ */
+public interface Resampler {
+
+    /**
+     * Resizes an image into the given array.
+     *
+     * @param image       the source image.
+     * @param width       the new width.
+     * @param height      the new height.
+     * @param destination an array of at least width * height elements that the resized pixels are
+     *                    written to, stored row by row.
+     * @return the destination array.
+     */
+    int[] resample(BufferedImage image, int width, int height, int[] destination);
+
+    /**
+     * Resizes an image into the given array, keeping the arrays that the resize works in, such as
+     * source rows and filter weights, in the given context. Resizing again through the same context
+     * between the same dimensions then reuses them instead of allocating new ones. Resamplers that do
+     * not keep any arrays resize the image as {@link #resample(BufferedImage, int, int, int[])} does.
+     *
+     * @param image       the source image.
+     * @param width       the new width.
+     * @param height      the new height.
+     * @param destination an array of at least width * height elements that the resized pixels are
+     *                    written to, stored row by row.
+     * @param context     the context that the working arrays are kept in, or null to allocate them
+     *                    for this call.
+     * @return the destination array.
+     */
+    default int[] resample(BufferedImage image, int width, int height, int[] destination, RenderContext context) {
+        return resample(image, width, height, destination);
+    }
+
+    /**
+     * Resizes an image into a new array.
+     *
+     * @param image  the source image.
+     * @param width  the new width.
+     * @param height the new height.
+     * @return an array of width * height packed ARGB values, stored row by row.
+     */
+    default int[] resample(BufferedImage image, int width, int height) {
+        return resample(image, width, height, new int[width * height]);
+    }
+}
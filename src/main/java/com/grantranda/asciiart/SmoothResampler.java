@@ -0,0 +1,30 @@
+/*
+ * SmoothResampler.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+/**
+ * SmoothResampler resizes images with {@link Image#getScaledInstance(int, int, int)} and
+ * {@link Image#SCALE_SMOOTH}. It is much slower than the other resamplers and is kept for
+ * compatibility with earlier versions.
+ *
+ * @author Grant Randa
+ */
+public class SmoothResampler implements Resampler {
+
+    @Override
+    public int[] resample(BufferedImage image, int width, int height, int[] destination) {
+        Image temp = image.getScaledInstance(width, height, Image.SCALE_SMOOTH);
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D gd2 = resized.createGraphics();
+        gd2.drawImage(temp, 0, 0, null);
+        gd2.dispose();
+        return resized.getRGB(0, 0, width, height, destination, 0, width);
+    }
+}
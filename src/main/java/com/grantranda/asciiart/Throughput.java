@@ -0,0 +1,92 @@
+/*
+ * Throughput.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * Throughput measures how quickly frames can be rendered from an already decoded image. By default,
+ * frames are written to a {@link NullSink} so that the terminal does not affect the result.
+ *
+ * @author Grant Randa
+ */
+public class Throughput {
+
+    private final int frames;
+    private final long elapsedNanos;
+    private final long bytes;
+
+    private Throughput(int frames, long elapsedNanos, long bytes) {
+        this.frames = frames;
+        this.elapsedNanos = elapsedNanos;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Renders an image repeatedly to a sink that discards its output and measures the achieved frame rate.
+     *
+     * @param image   the source image.
+     * @param options the options used to render the image.
+     * @param frames  the number of frames to render.
+     * @return the measured throughput.
+     * @throws IOException if a frame cannot be written.
+     */
+    public static Throughput measure(BufferedImage image, RenderOptions options, int frames) throws IOException {
+        return measure(image, options, frames, new NullSink());
+    }
+
+    /**
+     * Renders an image repeatedly to the given sink and measures the achieved frame rate. The sink is
+     * flushed before the measurement ends but is not closed.
+     *
+     * @param image   the source image.
+     * @param options the options used to render the image.
+     * @param frames  the number of frames to render.
+     * @param sink    the sink that frames are written to.
+     * @return the measured throughput.
+     * @throws IOException if a frame cannot be written.
+     */
+    public static Throughput measure(BufferedImage image, RenderOptions options, int frames, OutputSink sink)
+            throws IOException {
+        RenderContext context = new RenderContext(sink);
+        long initialBytes = sink.getBytesWritten();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            ASCIIArt.render(image, options, context);
+        }
+        sink.flush();
+        return new Throughput(frames, System.nanoTime() - start, sink.getBytesWritten() - initialBytes);
+    }
+
+    public int getFrames() {
+        return frames;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getFramesPerSecond() {
+        return frames / (elapsedNanos / 1e9);
+    }
+
+    public double getMillisecondsPerFrame() {
+        return frames == 0 ? 0 : elapsedNanos / 1e6 / frames;
+    }
+
+    public long getBytesPerFrame() {
+        return frames == 0 ? 0 : bytes / frames;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d frames in %.3f s: %.2f frames/sec, %.3f ms/frame, %d bytes/frame, %.2f MB/sec",
+                frames, elapsedNanos / 1e9, getFramesPerSecond(), getMillisecondsPerFrame(), getBytesPerFrame(),
+                bytes / 1e6 / (elapsedNanos / 1e9));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * VideoStream.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VideoStream renders a stream of raw rgb24 frames, such as the output of
+ * {@code ffmpeg -i video.mp4 -f rawvideo -pix_fmt rgb24 -}, as an animation. Each frame is read into a
+ * reusable direct buffer and sampled straight into the {@link Frame} of a reusable {@link RenderContext}
+ * by {@link CellSampler}, which takes the mean brightness and color of the source pixels covered by each
+ * character cell. After the first frame, rendering a frame allocates nothing.
+ *
+ * @author Grant Randa
+ */
+public class VideoStream {
+
+    private final RenderOptions options;
+    private final OutputSink sink;
+    private final int sourceWidth;
+    private final int sourceHeight;
+    private final ByteBuffer buffer;
+    private final RenderContext context;
+    private final Frame frame;
+
+    /**
+     * Creates a VideoStream for frames of the given size.
+     *
+     * @param options      the options used to render each frame. The resampler and pipeline are ignored.
+     * @param sourceWidth  the width of each raw frame.
+     * @param sourceHeight the height of each raw frame.
+     * @param sink         the sink that frames are written to.
+     */
+    public VideoStream(RenderOptions options, int sourceWidth, int sourceHeight, OutputSink sink) {
+        if (sourceWidth <= 0 || sourceHeight <= 0) {
+            throw new IllegalArgumentException("Stream dimensions must be positive");
+        }
+        this.options = options;
+        this.sink = sink;
+        this.sourceWidth = sourceWidth;
+        this.sourceHeight = sourceHeight;
+        this.buffer = ByteBuffer.allocateDirect(Math.multiplyExact(sourceWidth * 3, sourceHeight));
+        this.context = new RenderContext(sink);
+        this.frame = context.getFrame(options.getWidth(), options.getHeight());
+    }
+
+    /**
+     * Reads and renders frames until the input ends. The screen is cleared before the first frame, and
+     * each later frame only rewrites the cells that differ from the previous one, addressed by absolute
+     * cursor positions, so that it replaces the previous frame in place. If a frame rate is given,
+     * frames are written at that rate, starting from the arrival of the first frame. When rendering
+     * falls more than a frame behind, frames that are already waiting in the input are dropped instead
+     * of written until it catches up. When the input itself falls behind, so that reading a late frame
+     * blocks, the schedule restarts from that frame instead.
+     *
+     * @param input     the channel that raw frames are read from.
+     * @param frameRate the frame rate of the stream, or 0 to write frames as they arrive.
+     * @return the statistics of the stream.
+     * @throws IOException if a frame cannot be read or written.
+     */
+    public Result play(ReadableByteChannel input, double frameRate) throws IOException {
+        long interval = frameRate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / frameRate) : 0;
+        int rendered = 0;
+        int dropped = 0;
+        long initialBytes = sink.getBytesWritten();
+        long start = System.nanoTime();
+        long due = start;
+
+        try {
+            for (int i = 0; ; i++) {
+                long readStart = System.nanoTime();
+                if (!read(input)) {
+                    break;
+                }
+                if (interval > 0) {
+                    long now = System.nanoTime();
+                    if (i == 0) {
+                        due = now;
+                    } else {
+                        due += interval;
+                        if (now > due + interval) {
+                            if (now - readStart < interval / 2) {
+                                dropped++;
+                                continue;
+                            }
+                            due = now;
+                        }
+                    }
+                }
+                CellSampler.sample(buffer, sourceWidth, sourceHeight, frame, options.getBrightnessMapping(),
+                        options.getGlyphRamp(), options.getFrameColorMode(), context);
+                if (interval > 0) {
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                }
+                if (rendered == 0) {
+                    sink.write(AnsiEncoder.CLEAR_SCREEN, 0, AnsiEncoder.CLEAR_SCREEN.length);
+                }
+                context.getEmitter().emitChanges(frame);
+                sink.flush();
+                rendered++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new Result(rendered, dropped, sink.getBytesWritten() - initialBytes, System.nanoTime() - start);
+    }
+
+    /**
+     * Reads the next frame into the buffer.
+     *
+     * @return false if the input ended before a whole frame was read.
+     */
+    private boolean read(ReadableByteChannel input) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            if (input.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The statistics of a stream.
+     */
+    public static class Result {
+
+        private final int rendered;
+        private final int dropped;
+        private final long bytes;
+        private final long elapsedNanos;
+
+        Result(int rendered, int dropped, long bytes, long elapsedNanos) {
+            this.rendered = rendered;
+            this.dropped = dropped;
+            this.bytes = bytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getRendered() {
+            return rendered;
+        }
+
+        /**
+         * Returns the number of frames that were read but skipped because they could not be written by
+         * the time the next frame was due.
+         *
+         * @return the number of dropped frames.
+         */
+        public int getDropped() {
+            return dropped;
+        }
+
+        public long getBytesPerFrame() {
+            return rendered == 0 ? 0 : bytes / rendered;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1e9;
+            return String.format("%d frames rendered, %d dropped in %.3f s: %.2f frames/sec, %d bytes/frame",
+                    rendered, dropped, seconds, rendered / seconds, getBytesPerFrame());
+        }
+    }
+}
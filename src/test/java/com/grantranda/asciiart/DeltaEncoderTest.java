@@ -0,0 +1,164 @@
+/*
+ * DeltaEncoderTest.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.ColorMode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DeltaEncoderTest checks the bytes that {@link DeltaEncoder} writes for changed runs and repaints.
+ *
+ * @author Grant Randa
+ */
+public class DeltaEncoderTest {
+
+    private static final String ESCAPE = "\u001B[";
+
+    @Test
+    public void repaintsFirstFrame() {
+        DeltaEncoder encoder = new DeltaEncoder();
+        assertEquals(ESCAPE + "1;1Haaaa" + ESCAPE + "2;1Haaaa" + ESCAPE + "3;1H",
+                encode(encoder, createFrame(2, 2, 'a')));
+        assertTrue(encoder.isRepainted());
+        assertEquals(4, encoder.getChangedCells());
+    }
+
+    @Test
+    public void mergesRunsSeparatedByAtMostMergeGap() {
+        DeltaEncoder encoder = new DeltaEncoder();
+        Frame frame = createFrame(20, 4, '.');
+        encode(encoder, frame);
+
+        frame.getGlyphs()[2] = 'x';
+        frame.getGlyphs()[2 + DeltaEncoder.MERGE_GAP + 1] = 'y';
+        assertEquals(ESCAPE + "1;5Hxx" + repeat('.', DeltaEncoder.MERGE_GAP * 2) + "yy" + ESCAPE + "5;1H",
+                encode(encoder, frame));
+        assertFalse(encoder.isRepainted());
+        assertEquals(2, encoder.getChangedCells());
+    }
+
+    @Test
+    public void splitsRunsSeparatedByMoreThanMergeGap() {
+        DeltaEncoder encoder = new DeltaEncoder();
+        Frame frame = createFrame(20, 4, '.');
+        encode(encoder, frame);
+
+        frame.getGlyphs()[2] = 'x';
+        frame.getGlyphs()[2 + DeltaEncoder.MERGE_GAP + 2] = 'y';
+        frame.getGlyphs()[3 * 20 + 19] = 'z';
+        assertEquals(ESCAPE + "1;5Hxx" + ESCAPE + "1;15Hyy" + ESCAPE + "4;39Hzz" + ESCAPE + "5;1H",
+                encode(encoder, frame));
+        assertFalse(encoder.isRepainted());
+        assertEquals(3, encoder.getChangedCells());
+    }
+
+    @Test
+    public void writesNothingButCursorForUnchangedFrame() {
+        DeltaEncoder encoder = new DeltaEncoder();
+        Frame frame = createFrame(20, 4, '.');
+        encode(encoder, frame);
+        assertEquals(ESCAPE + "5;1H", encode(encoder, frame));
+        assertEquals(0, encoder.getChangedCells());
+    }
+
+    @Test
+    public void repaintsAboveRepaintRatio() {
+        DeltaEncoder encoder = new DeltaEncoder(0.25);
+        Frame frame = createFrame(4, 4, '.');
+        encode(encoder, frame);
+
+        Arrays.fill(frame.getGlyphs(), 0, 4, 'x');
+        encode(encoder, frame);
+        assertFalse(encoder.isRepainted());
+
+        Arrays.fill(frame.getGlyphs(), 0, 5, 'y');
+        encode(encoder, frame);
+        assertTrue(encoder.isRepainted());
+        assertEquals(16, encoder.getChangedCells());
+    }
+
+    @Test
+    public void repaintsWhenRunsCostMoreThanRepaint() {
+        DeltaEncoder encoder = new DeltaEncoder(1);
+        Frame frame = createFrame(100, 1, '.');
+        encode(encoder, frame);
+
+        for (int x = 0; x < 100; x += DeltaEncoder.MERGE_GAP + 2) {
+            frame.getGlyphs()[x] = 'x';
+        }
+        String output = encode(encoder, frame);
+        assertTrue(encoder.isRepainted());
+        assertEquals(ESCAPE + "1;1H", output.substring(0, 6));
+        assertEquals(6 + 200 + 6, output.length());
+    }
+
+    @Test
+    public void repaintsWhenColorModeChanges() {
+        DeltaEncoder encoder = new DeltaEncoder();
+        Frame frame = createFrame(4, 2, '.');
+        encode(encoder, frame);
+
+        frame.setColorMode(ColorMode.BASIC);
+        encode(encoder, frame);
+        assertTrue(encoder.isRepainted());
+    }
+
+    @Test
+    public void erasesPreviousFrameWhenDimensionsShrink() {
+        DeltaEncoder encoder = new DeltaEncoder();
+        encode(encoder, createFrame(4, 3, '.'));
+
+        assertEquals(ESCAPE + "1;1Haaaa" + ESCAPE + "K" + ESCAPE + "2;1Haaaa" + ESCAPE + "K"
+                        + ESCAPE + "3;1H" + ESCAPE + "J",
+                encode(encoder, createFrame(2, 2, 'a')));
+        assertTrue(encoder.isRepainted());
+    }
+
+    @Test
+    public void doesNotEraseWhenDimensionsGrow() {
+        DeltaEncoder encoder = new DeltaEncoder();
+        encode(encoder, createFrame(1, 1, '.'));
+
+        assertEquals(ESCAPE + "1;1Haaaa" + ESCAPE + "2;1Haaaa" + ESCAPE + "3;1H",
+                encode(encoder, createFrame(2, 2, 'a')));
+        assertTrue(encoder.isRepainted());
+    }
+
+    @Test
+    public void repaintsAfterReset() {
+        DeltaEncoder encoder = new DeltaEncoder();
+        Frame frame = createFrame(2, 2, 'a');
+        encode(encoder, frame);
+        encoder.reset();
+
+        assertEquals(ESCAPE + "1;1Haaaa" + ESCAPE + "2;1Haaaa" + ESCAPE + "3;1H", encode(encoder, frame));
+        assertTrue(encoder.isRepainted());
+    }
+
+    private static String encode(DeltaEncoder encoder, Frame frame) {
+        int length = encoder.encode(frame);
+        return new String(encoder.getBuffer(), 0, length, StandardCharsets.US_ASCII);
+    }
+
+    private static Frame createFrame(int width, int height, char glyph) {
+        Frame frame = new Frame(width, height);
+        Arrays.fill(frame.getGlyphs(), glyph);
+        return frame;
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
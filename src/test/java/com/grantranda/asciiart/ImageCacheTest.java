@@ -0,0 +1,140 @@
+/*
+ * ImageCacheTest.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ImageCacheTest checks that {@link ImageCache} decodes each file and level once, decodes files again
+ * when they change, and stays within its weight.
+ *
+ * @author Grant Randa
+ */
+public class ImageCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void decodesEachLevelOnce() throws IOException {
+        File file = writeImage("image.png", 400, 400);
+        ImageCache cache = new ImageCache();
+
+        BufferedImage large = cache.get(file, 100, 100);
+        BufferedImage small = cache.get(file, 10, 10);
+        assertTrue(small.getWidth() < large.getWidth());
+        assertSame(large, cache.get(file, 100, 100));
+        assertSame(small, cache.get(file, 10, 10));
+
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.getHits());
+        assertEquals(ImageCache.getWeight(large) + ImageCache.getWeight(small), cache.getBytes());
+    }
+
+    @Test
+    public void matchesDecoder() throws IOException {
+        File file = writeImage("image.png", 400, 300);
+        ImageCache cache = new ImageCache();
+        for (int width : new int[]{10, 50, 200, 400}) {
+            BufferedImage expected = ImageDecoder.decode(file, width, width / 2);
+            BufferedImage actual = cache.get(file, width, width / 2);
+            assertEquals(expected.getWidth(), actual.getWidth());
+            assertEquals(expected.getHeight(), actual.getHeight());
+        }
+    }
+
+    @Test
+    public void decodesAgainWhenModifiedTimeChanges() throws IOException {
+        File file = writeImage("image.png", 64, 64);
+        ImageCache cache = new ImageCache();
+        BufferedImage first = cache.get(file, 64, 64);
+
+        FileTime modified = Files.getLastModifiedTime(file.toPath());
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(modified.toMillis() + 10_000));
+        BufferedImage second = cache.get(file, 64, 64);
+
+        assertNotSame(first, second);
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getHits());
+        assertEquals(ImageCache.getWeight(second), cache.getBytes());
+    }
+
+    @Test
+    public void decodesAgainWhenSizeChanges() throws IOException {
+        File file = writeImage("image.png", 64, 64);
+        ImageCache cache = new ImageCache();
+        FileTime modified = Files.getLastModifiedTime(file.toPath());
+        assertEquals(64, cache.get(file, 64, 64).getWidth());
+
+        long size = Files.size(file.toPath());
+        writeImage("image.png", 32, 32);
+        Files.setLastModifiedTime(file.toPath(), modified);
+        assertTrue(Files.size(file.toPath()) != size);
+
+        assertEquals(32, cache.get(file, 64, 64).getWidth());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedFilesByWeight() throws IOException {
+        File a = writeImage("a.png", 64, 64);
+        File b = writeImage("b.png", 64, 64);
+        File c = writeImage("c.png", 64, 64);
+        long weight = ImageCache.getWeight(ImageDecoder.decode(a, 64, 64));
+        ImageCache cache = new ImageCache(weight * 2);
+
+        cache.get(a, 64, 64);
+        cache.get(b, 64, 64);
+        cache.get(a, 64, 64);
+        cache.get(c, 64, 64);
+        assertEquals(1, cache.getEvictions());
+        assertEquals(weight * 2, cache.getBytes());
+
+        cache.get(a, 64, 64);
+        cache.get(c, 64, 64);
+        assertEquals(3, cache.getHits());
+        cache.get(b, 64, 64);
+        assertEquals(4, cache.getMisses());
+        assertEquals(2, cache.getEvictions());
+        assertTrue(cache.getBytes() <= weight * 2);
+    }
+
+    @Test
+    public void holdsNothingWithZeroWeight() throws IOException {
+        File file = writeImage("image.png", 64, 64);
+        ImageCache cache = new ImageCache(0);
+        cache.get(file, 64, 64);
+        cache.get(file, 64, 64);
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getBytes());
+    }
+
+    private File writeImage(String name, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8);
+            }
+        }
+        File file = directory.resolve(name).toFile();
+        ImageIO.write(image, "png", file);
+        return file;
+    }
+}
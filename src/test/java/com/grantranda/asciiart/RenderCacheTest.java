@@ -0,0 +1,124 @@
+/*
+ * RenderCacheTest.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RenderCacheTest checks the eviction order, size bound and counters of {@link RenderCache}.
+ *
+ * @author Grant Randa
+ */
+public class RenderCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        RenderCache cache = new RenderCache(30);
+        cache.put("a", new byte[10]);
+        cache.put("b", new byte[10]);
+        cache.put("c", new byte[10]);
+        assertNotNull(cache.get("a"));
+
+        cache.put("d", new byte[10]);
+
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+        assertNotNull(cache.get("d"));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void staysWithinMemoryBytes() {
+        RenderCache cache = new RenderCache(100);
+        for (int i = 0; i < 20; i++) {
+            cache.put("key" + i, new byte[7 + i]);
+            assertTrue(cache.getMemoryBytes() <= 100);
+        }
+        assertEquals(cache.getMemoryEntries(), 20 - cache.getEvictions());
+
+        cache.put("key19", new byte[1]);
+        assertEquals(1, cache.get("key19").length);
+        assertTrue(cache.getMemoryBytes() <= 100);
+    }
+
+    @Test
+    public void keepsOversizedOutputOutOfMemory() throws Exception {
+        RenderCache cache = new RenderCache(30, directory);
+        cache.put("a", new byte[10]);
+        cache.put("b", new byte[10]);
+
+        byte[] large = new byte[31];
+        large[30] = 1;
+        cache.put("large", large);
+
+        assertEquals(2, cache.getMemoryEntries());
+        assertEquals(20, cache.getMemoryBytes());
+        assertEquals(0, cache.getEvictions());
+        assertArrayEquals(large, Files.readAllBytes(directory.resolve("large.ans")));
+
+        assertArrayEquals(large, cache.get("large"));
+        assertEquals(1, cache.getDiskHits());
+        assertEquals(2, cache.getMemoryEntries());
+    }
+
+    @Test
+    public void replacesEntryWithOversizedOutput() {
+        RenderCache cache = new RenderCache(30);
+        cache.put("a", new byte[10]);
+        cache.put("a", new byte[40]);
+
+        assertEquals(0, cache.getMemoryEntries());
+        assertEquals(0, cache.getMemoryBytes());
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    public void countsHitsDiskHitsMissesAndEvictions() {
+        RenderCache cache = new RenderCache(10, directory);
+        assertNull(cache.get("a"));
+        cache.put("a", new byte[10]);
+        assertNotNull(cache.get("a"));
+        cache.put("b", new byte[10]);
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("c"));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getDiskHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.getEvictions());
+
+        RenderCache reopened = new RenderCache(10, directory);
+        assertNotNull(reopened.get("b"));
+        assertNotNull(reopened.get("b"));
+        assertEquals(1, reopened.getDiskHits());
+        assertEquals(1, reopened.getHits());
+    }
+
+    @Test
+    public void keysDependOnImageAndOptions() {
+        RenderOptions options = new RenderOptions();
+        byte[] image = {1, 2, 3};
+        assertEquals(RenderCache.getKey(image, options), RenderCache.getKey(image.clone(), options.copy()));
+        assertNotEquals(RenderCache.getKey(image, options), RenderCache.getKey(new byte[]{1, 2}, options));
+        assertNotEquals(RenderCache.getKey(image, options),
+                RenderCache.getKey(image, options.copy().setWidth(options.getWidth() + 1)));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * RenderContextTest.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import com.grantranda.asciiart.ASCIIArt.Resampling;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * RenderContextTest checks that a context can be reused across images of different shapes.
+ *
+ * @author Grant Randa
+ */
+public class RenderContextTest {
+
+    @Test
+    public void reusesContextAcrossShapesOfSameArea() {
+        BufferedImage portrait = createImage(100, 200);
+        BufferedImage landscape = createImage(200, 100);
+        for (Resampling resampling : Resampling.values()) {
+            Resampler resampler = resampling.getResampler();
+            RenderContext context = new RenderContext();
+
+            int[] first = resampler.resample(portrait, 20, 10, new int[200], context);
+            int[] second = resampler.resample(landscape, 20, 10, new int[200], context);
+            int[] third = resampler.resample(portrait, 20, 10, new int[200], context);
+
+            assertArrayEquals(resampler.resample(portrait, 20, 10), first, resampling.name());
+            assertArrayEquals(resampler.resample(landscape, 20, 10), second, resampling.name());
+            assertArrayEquals(first, third, resampling.name());
+        }
+    }
+
+    /**
+     * Returns an image whose raster is not packed ARGB, so that its pixels are copied through the context.
+     */
+    private static BufferedImage createImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8 | (x + y) & 0xFF);
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * RenderServerTest.java
+ * Date created: October 17, 2026
+ */
+
+package com.grantranda.asciiart;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RenderServerTest starts a {@link RenderServer} on a free localhost port and sends it real requests.
+ *
+ * @author Grant Randa
+ */
+public class RenderServerTest {
+
+    private static final int WIDTH = 40;
+    private static final int HEIGHT = 20;
+
+    @TempDir
+    Path directory;
+
+    private Path root;
+    private byte[] image;
+    private RenderServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        root = Files.createDirectory(directory.resolve("root"));
+        image = createImage();
+        Files.write(root.resolve("image.png"), image);
+        Files.write(directory.resolve("outside.png"), image);
+
+        RenderOptions options = new RenderOptions()
+                .setWidth(WIDTH)
+                .setHeight(HEIGHT)
+                .setColored(false);
+        server = new RenderServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), options, root, 2,
+                new RenderCache(1 << 20), null);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void rendersUpload() throws IOException {
+        Response response = send("POST", "/render", image);
+        assertEquals(200, response.status);
+        assertEquals("miss", response.cache);
+        assertEquals(HEIGHT, response.body.trim().split("\n").length);
+
+        Response cached = send("POST", "/render", image);
+        assertEquals(200, cached.status);
+        assertEquals("hit", cached.cache);
+        assertEquals(response.body, cached.body);
+    }
+
+    @Test
+    public void rendersPathInsideRoot() throws IOException {
+        Response response = send("GET", "/render?path=image.png&width=10&height=5", null);
+        assertEquals(200, response.status);
+        assertEquals(5, response.body.trim().split("\n").length);
+    }
+
+    @Test
+    public void rejectsPathOutsideRoot() throws IOException {
+        assertEquals(404, send("GET", "/render?path=../outside.png", null).status);
+        assertEquals(404, send("GET", "/render?path=" + directory.resolve("outside.png").toUri().getPath(),
+                null).status);
+    }
+
+    @Test
+    public void rejectsLocalImageLargerThanUploads() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(root.resolve("large.png").toFile(), "rw")) {
+            file.setLength(RenderServer.DEFAULT_MAX_UPLOAD_BYTES + 1L);
+        }
+        assertEquals(413, send("GET", "/render?path=large.png", null).status);
+    }
+
+    @Test
+    public void rejectsTooManyCells() throws IOException {
+        Response response = send("POST", "/render?width=4096&height=4096", image);
+        assertEquals(400, response.status);
+        assertTrue(response.body.contains(String.valueOf(RenderServer.MAX_CELLS)));
+        assertEquals(400, send("POST", "/render?width=" + (RenderServer.MAX_DIMENSION + 1), image).status);
+    }
+
+    @Test
+    public void rejectsGetWithoutPath() throws IOException {
+        assertEquals(400, send("GET", "/render", null).status);
+    }
+
+    @Test
+    public void failsToBindUsedPort() {
+        assertThrows(IOException.class, () -> new RenderServer(server.getAddress(), new RenderOptions(), null, 1));
+    }
+
+    private Response send(String method, String target, byte[] body) throws IOException {
+        URL url = new URL("http", server.getAddress().getHostString(), server.getAddress().getPort(), target);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            connection.setRequestMethod(method);
+            if (body != null) {
+                connection.setDoOutput(true);
+                try (OutputStream output = connection.getOutputStream()) {
+                    output.write(body);
+                }
+            }
+            int status = connection.getResponseCode();
+            InputStream input = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+            ByteArrayOutputStream response = new ByteArrayOutputStream();
+            if (input != null) {
+                try (InputStream in = input) {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = in.read(buffer)) >= 0) {
+                        response.write(buffer, 0, read);
+                    }
+                }
+            }
+            return new Response(status, connection.getHeaderField("X-Cache"),
+                    new String(response.toByteArray(), StandardCharsets.UTF_8));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static byte[] createImage() throws IOException {
+        BufferedImage image = new BufferedImage(160, 80, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, (x * 255 / image.getWidth()) << 16 | (y * 255 / image.getHeight()) << 8);
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private static class Response {
+
+        private final int status;
+        private final String cache;
+        private final String body;
+
+        Response(int status, String cache, String body) {
+            this.status = status;
+            this.cache = cache;
+            this.body = body;
+        }
+    }
+}